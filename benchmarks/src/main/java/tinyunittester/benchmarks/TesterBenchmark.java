@@ -0,0 +1,102 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Imbalance;
+import org.demo.pojo.Invalid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tinyunittester.PojoUnitTester;
+import tinyunittester.corpus.PojoCorpusGenerator;
+
+/**
+ * Benchmarks of 'testSettersAndGettersBehavior' <br>
+ * . 'warm'  : throughput once the accessor plans and the JIT are warmed up <br>
+ * . 'cold'  : single call on a class never tested before (plan building + accessors binding)
+ *
+ * @author Laurent Guerin
+ *
+ */
+@State(Scope.Benchmark)
+public class TesterBenchmark {
+
+	@Param({ "Employee", "Imbalance", "Invalid", "Synthetic10", "Synthetic100", "Synthetic1000" })
+	public String subject;
+
+	private final PojoUnitTester tester = new PojoUnitTester();
+
+	private Class<?> clazz;
+
+	static Class<?> subjectClass(String subject) {
+		switch (subject) {
+		case "Employee": return Employee.class;
+		case "Imbalance": return Imbalance.class;
+		case "Invalid": return Invalid.class;
+		default:
+			int propertyCount = Integer.parseInt(subject.substring("Synthetic".length()));
+			return PojoCorpusGenerator.builder().propertyCount(propertyCount).build()
+					.generate().getClasses().get(0);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		clazz = subjectClass(subject);
+	}
+
+	/**
+	 * Runs the test and returns the failure if any ('Invalid' always fails)
+	 * @return
+	 */
+	private Object test() {
+		try {
+			tester.testSettersAndGettersBehavior(clazz);
+			return null;
+		} catch (RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Warmup(iterations = 5, time = 1)
+	@Measurement(iterations = 5, time = 1)
+	@Fork(1)
+	public Object warm() {
+		return test();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 0)
+	@Measurement(iterations = 1)
+	@Fork(10)
+	public Object cold() {
+		return test();
+	}
+}
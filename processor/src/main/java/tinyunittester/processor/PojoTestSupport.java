@@ -0,0 +1,98 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.processor;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Runtime support for the generated tests (checks without reflection) <br>
+ * A failure is reported with an 'AssertionError' : <br>
+ *   "Invalid : setName : Z (String) / getName : Z foo (String)"
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PojoTestSupport {
+
+	/**
+	 * Values function used when no function is given : fails for any type without built-in value
+	 */
+	public static final Function<Class<?>, Object> NO_VALUES = type -> {
+		throw new IllegalArgumentException("No value for type '" + type.getName() + "' (use 'test(values)')");
+	};
+
+	private PojoTestSupport() {
+	}
+
+	/**
+	 * Returns the URL for the given spec (URL value used in an expression)
+	 * @param spec
+	 * @return
+	 */
+	public static URL url(String spec) {
+		try {
+			return new URL(spec);
+		} catch (MalformedURLException e) {
+			throw new IllegalArgumentException("Invalid URL '" + spec + "'", e);
+		}
+	}
+
+	public static void check(String className, String setter, boolean expected, String getter, boolean actual) {
+		if ( expected != actual ) {
+			fail(className, setter, expected, getter, actual, false);
+		}
+	}
+
+	public static void check(String className, String setter, char expected, String getter, char actual) {
+		if ( expected != actual ) {
+			fail(className, setter, expected, getter, actual, false);
+		}
+	}
+
+	/**
+	 * Check for all the integer primitive types (byte, short, int, long)
+	 */
+	public static void check(String className, String setter, long expected, String getter, long actual) {
+		if ( expected != actual ) {
+			fail(className, setter, expected, getter, actual, false);
+		}
+	}
+
+	/**
+	 * Check for float and double (same result as 'equals' with the wrappers, eg NaN = NaN)
+	 */
+	public static void check(String className, String setter, double expected, String getter, double actual) {
+		if ( Double.compare(expected, actual) != 0 ) {
+			fail(className, setter, expected, getter, actual, false);
+		}
+	}
+
+	public static void check(String className, String setter, Object expected, String getter, Object actual) {
+		if ( ! Objects.equals(expected, actual) ) {
+			fail(className, setter, expected, getter, actual, true);
+		}
+	}
+
+	private static void fail(String className, String setter, Object expected, String getter, Object actual, boolean withTypes) {
+		throw new AssertionError(className + " : "
+				+ setter + " : " + expected + ( withTypes ? " (" + typeName(expected) + ")" : "" )
+				+ " / "
+				+ getter + " : " + actual + ( withTypes ? " (" + typeName(actual) + ")" : "" ) );
+	}
+
+	private static String typeName(Object value) {
+		return value != null ? value.getClass().getSimpleName() : "null";
+	}
+}
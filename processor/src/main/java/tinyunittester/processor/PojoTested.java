@@ -0,0 +1,45 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests the generation of a reflection-free test at compile time (see 'PojoTestedProcessor') <br>
+ * Usable on : <br>
+ * - a POJO class : a test is generated for this class <br>
+ * - a package ('package-info.java') : a test is generated for each top-level POJO class of the package
+ *   (the nested classes are not processed, they must be requested with 'value') <br>
+ * - any class (eg a test class) with 'value' : a test is generated for each given class
+ *   (the generated tests are then compiled with the test sources) <br>
+ * For a class 'Foo' the generated class is 'FooPojoChecks' (same package) with a static method 'test()' <br>
+ * The generated class is not a test class by itself (its name doesn't match the usual test patterns) :
+ * it is called by a test, eg 'assertEquals(5, FooPojoChecks.test())'
+ *
+ * @author Laurent Guerin
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ ElementType.TYPE, ElementType.PACKAGE })
+public @interface PojoTested {
+
+	/**
+	 * Classes to be tested (if empty the annotated class itself or all the classes of the annotated package)
+	 * @return
+	 */
+	Class<?>[] value() default {};
+}
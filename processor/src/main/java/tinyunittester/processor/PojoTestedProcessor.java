@@ -0,0 +1,302 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor for '@PojoTested' <br>
+ * Generates at compile time a plain Java test for each POJO class : 'new Foo()' then for each setter/getter pair
+ * a direct call of the setter with a generated value and a check of the value returned by the getter <br>
+ * The generated test uses no reflection (no accessor plan to build at runtime, no 'setAccessible'),
+ * so it can run as soon as the class is loaded. <br>
+ * The properties are the same as with the tester : public setters 'setXxx' with a single parameter
+ * and their public getters 'getXxx' or 'isXxx' (a setter without getter is just invoked) <br>
+ * A class is testable if it is a public top-level (or static nested) class, not abstract, not generic,
+ * with a public no-arg constructor (error for an explicitly requested class, ignored in a package) <br>
+ * For an annotated package only the top-level classes are processed (the nested classes are not visited)
+ *
+ * @author Laurent Guerin
+ *
+ */
+public class PojoTestedProcessor extends AbstractProcessor {
+
+	private static final String SUFFIX = "PojoChecks"; // not a test class name (eg surefire '*Test') and no clash with '@PojoTest'
+	private static final String SET = "set";
+	private static final String GET = "get";
+	private static final String IS = "is";
+
+	// classes already generated (in previous rounds)
+	private final Set<String> generated = new HashSet<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(PojoTested.class.getCanonicalName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		TypeElement annotation = processingEnv.getElementUtils().getTypeElement(PojoTested.class.getCanonicalName());
+		if ( annotation == null ) {
+			return false;
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+			List<TypeElement> requested = requestedClasses(element, annotation);
+			if ( ! requested.isEmpty() ) {
+				// explicitly requested classes
+				for (TypeElement type : requested) {
+					generateIfTestable(type, element, true);
+				}
+			}
+			else if ( element.getKind() == ElementKind.PACKAGE ) {
+				// all the top-level classes of the package (the nested classes must be requested explicitly)
+				for (TypeElement type : ElementFilter.typesIn(element.getEnclosedElements())) {
+					generateIfTestable(type, element, false);
+				}
+			}
+			else {
+				generateIfTestable((TypeElement) element, element, true);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the classes given in 'value' (read from the annotation mirror, the classes may not be compiled yet)
+	 * @param element
+	 * @param annotation
+	 * @return
+	 */
+	private List<TypeElement> requestedClasses(Element element, TypeElement annotation) {
+		List<TypeElement> classes = new ArrayList<>();
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if ( ! mirror.getAnnotationType().asElement().equals(annotation) ) {
+				continue;
+			}
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+				if ( entry.getKey().getSimpleName().contentEquals("value") ) {
+					@SuppressWarnings("unchecked")
+					List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) entry.getValue().getValue();
+					for (AnnotationValue value : values) {
+						classes.add((TypeElement) ((DeclaredType) value.getValue()).asElement());
+					}
+				}
+			}
+		}
+		return classes;
+	}
+
+	private void generateIfTestable(TypeElement type, Element origin, boolean explicit) {
+		String reason = notTestableReason(type);
+		if ( reason != null ) {
+			if ( explicit ) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"@PojoTested : cannot test '" + type.getQualifiedName() + "' (" + reason + ")", origin);
+			}
+			return;
+		}
+		String testClassName = testClassName(type);
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String qualifiedName = packageName.isEmpty() ? testClassName : packageName + "." + testClassName;
+		if ( generated.add(qualifiedName) ) {
+			try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type, origin).openWriter()) {
+				writer.write(generateSource(type, packageName, testClassName));
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"@PojoTested : cannot generate '" + qualifiedName + "' (" + e.getMessage() + ")", origin);
+			}
+		}
+	}
+
+	/**
+	 * Returns the reason why the class cannot be tested or null if testable
+	 * @param type
+	 * @return
+	 */
+	private String notTestableReason(TypeElement type) {
+		if ( type.getKind() != ElementKind.CLASS ) {
+			return "not a class";
+		}
+		Set<Modifier> modifiers = type.getModifiers();
+		if ( ! modifiers.contains(Modifier.PUBLIC) ) {
+			return "not public";
+		}
+		if ( modifiers.contains(Modifier.ABSTRACT) ) {
+			return "abstract";
+		}
+		if ( type.getNestingKind().isNested() && ! modifiers.contains(Modifier.STATIC) ) {
+			return "inner class";
+		}
+		if ( ! type.getTypeParameters().isEmpty() ) {
+			return "generic class";
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if ( constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC) ) {
+				return null;
+			}
+		}
+		return "no public constructor without argument";
+	}
+
+	/**
+	 * Returns the name of the generated class, eg 'FooPojoChecks' or 'Outer_FooPojoChecks' for a nested class
+	 * @param type
+	 * @return
+	 */
+	private static String testClassName(TypeElement type) {
+		StringBuilder sb = new StringBuilder(type.getSimpleName());
+		Element enclosing = type.getEnclosingElement();
+		while ( enclosing.getKind() != ElementKind.PACKAGE ) {
+			sb.insert(0, enclosing.getSimpleName() + "_");
+			enclosing = enclosing.getEnclosingElement();
+		}
+		return sb.append(SUFFIX).toString();
+	}
+
+	private String generateSource(TypeElement type, String packageName, String testClassName) {
+		Types types = processingEnv.getTypeUtils();
+		DeclaredType declaredType = (DeclaredType) type.asType();
+		String className = type.getQualifiedName().toString();
+		String simpleName = type.getSimpleName().toString();
+		List<Property> properties = properties(type);
+		StringBuilder sb = new StringBuilder();
+		if ( ! packageName.isEmpty() ) {
+			sb.append("package ").append(packageName).append(";\n\n");
+		}
+		sb.append("/**\n");
+		sb.append(" * Setter/getter test for '").append(className).append("' (generated by '@PojoTested', no reflection)\n");
+		sb.append(" */\n");
+		sb.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+		sb.append("public final class ").append(testClassName).append(" {\n\n");
+		sb.append("\tprivate ").append(testClassName).append("() {\n\t}\n\n");
+		sb.append("\t/**\n");
+		sb.append("\t * Tests all the properties with the built-in values\n");
+		sb.append("\t * @return the number of tested properties\n");
+		sb.append("\t */\n");
+		sb.append("\tpublic static int test() {\n");
+		sb.append("\t\treturn test(").append(PojoTestSupport.class.getName()).append(".NO_VALUES);\n");
+		sb.append("\t}\n\n");
+		sb.append("\t/**\n");
+		sb.append("\t * Tests all the properties, the values of the types without built-in value are provided by the given function\n");
+		sb.append("\t * @param values\n");
+		sb.append("\t * @return the number of tested properties\n");
+		sb.append("\t */\n");
+		sb.append("\t@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+		sb.append("\tpublic static int test(java.util.function.Function<Class<?>, ?> values) {\n");
+		sb.append("\t\t").append(className).append(" instance = new ").append(className).append("();\n");
+		int i = 0;
+		for (Property property : properties) {
+			TypeMirror valueType = ((ExecutableType) types.asMemberOf(declaredType, property.setter)).getParameterTypes().get(0);
+			String setter = property.setter.getSimpleName().toString();
+			String value = "v" + i++;
+			sb.append("\t\t// ").append(setter.substring(SET.length())).append(" (").append(valueType).append(")\n");
+			sb.append("\t\t").append(valueType).append(" ").append(value).append(" = ")
+				.append(ValueExpressions.expressionFor(valueType, types)).append(";\n");
+			sb.append("\t\tinstance.").append(setter).append("(").append(value).append(");\n");
+			if ( property.getter != null ) {
+				String getter = property.getter.getSimpleName().toString();
+				TypeMirror returnType = ((ExecutableType) types.asMemberOf(declaredType, property.getter)).getReturnType();
+				// primitive check only for the same primitive type, else 'equals' on the boxed values (as the tester)
+				// (a reference value already selects the 'Object' check : cast only the primitive values to box them)
+				boolean samePrimitive = valueType.getKind().isPrimitive() && types.isSameType(valueType, returnType);
+				boolean boxValue = ! samePrimitive && valueType.getKind().isPrimitive();
+				boolean boxResult = ! samePrimitive && returnType.getKind().isPrimitive();
+				sb.append("\t\t").append(PojoTestSupport.class.getName()).append(".check(\"").append(simpleName).append("\", ")
+					.append("\"").append(setter).append("\", ").append(boxValue ? "(Object) " : "").append(value).append(", ")
+					.append("\"").append(getter).append("\", ")
+					.append(boxResult ? "(Object) " : "").append("instance.").append(getter).append("());\n");
+			}
+		}
+		sb.append("\t\treturn ").append(properties.size()).append(";\n");
+		sb.append("\t}\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the properties (setters with their getters if any) of the class including the inherited ones
+	 * @param type
+	 * @return
+	 */
+	private List<Property> properties(TypeElement type) {
+		List<ExecutableElement> setters = new ArrayList<>();
+		Map<String, ExecutableElement> noArgMethods = new HashMap<>();
+		// 'getAllMembers' keeps only the most specific method in case of override
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if ( ! modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.ABSTRACT) ) {
+				continue;
+			}
+			String name = method.getSimpleName().toString();
+			if ( name.startsWith(SET) && method.getParameters().size() == 1 ) {
+				setters.add(method);
+			}
+			else if ( method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID ) {
+				noArgMethods.put(name, method);
+			}
+		}
+		// stable order (the order of 'getAllMembers' is not specified)
+		setters.sort((s1, s2) -> s1.toString().compareTo(s2.toString()));
+		List<Property> properties = new ArrayList<>(setters.size());
+		for (ExecutableElement setter : setters) {
+			String name = setter.getSimpleName().toString().substring(SET.length());
+			ExecutableElement getter = noArgMethods.get(GET + name);
+			if ( getter == null ) {
+				getter = noArgMethods.get(IS + name);
+			}
+			properties.add(new Property(setter, getter));
+		}
+		return properties;
+	}
+
+	private static final class Property {
+		private final ExecutableElement setter;
+		private final ExecutableElement getter;
+
+		private Property(ExecutableElement setter, ExecutableElement getter) {
+			this.setter = setter;
+			this.getter = getter;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.processor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/**
+ * Compile-time value generators : Java expressions for the values given to the setters
+ * (same types and same kind of values as the built-in generators of the tester) <br>
+ * An enum value is its first constant, a type without expression gets its value from the 'values' function at runtime
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class ValueExpressions {
+
+	private static final Map<String, String> EXPRESSIONS = new HashMap<>();
+
+	static {
+		// java.lang
+		EXPRESSIONS.put("java.lang.String", "\"Z\"");
+		EXPRESSIONS.put("boolean", "true");
+		EXPRESSIONS.put("java.lang.Boolean", "Boolean.TRUE");
+		EXPRESSIONS.put("char", "'a'");
+		EXPRESSIONS.put("java.lang.Character", "Character.valueOf('a')");
+		EXPRESSIONS.put("byte", "(byte) 4");
+		EXPRESSIONS.put("java.lang.Byte", "Byte.valueOf((byte) 4)");
+		EXPRESSIONS.put("short", "(short) 12");
+		EXPRESSIONS.put("java.lang.Short", "Short.valueOf((short) 12)");
+		EXPRESSIONS.put("int", "12345");
+		EXPRESSIONS.put("java.lang.Integer", "Integer.valueOf(12345)");
+		EXPRESSIONS.put("long", "123456789L");
+		EXPRESSIONS.put("java.lang.Long", "Long.valueOf(123456789L)");
+		EXPRESSIONS.put("float", "123.45F");
+		EXPRESSIONS.put("java.lang.Float", "Float.valueOf(123.45F)");
+		EXPRESSIONS.put("double", "12345.6789");
+		EXPRESSIONS.put("java.lang.Double", "Double.valueOf(12345.6789)");
+		// loose types
+		EXPRESSIONS.put("java.lang.Object", "new Object()");
+		EXPRESSIONS.put("java.io.Serializable", "\"Z\"");
+		EXPRESSIONS.put("java.lang.Comparable", "\"Z\"");
+		EXPRESSIONS.put("java.lang.CharSequence", "\"Z\"");
+		EXPRESSIONS.put("java.lang.Number", "Integer.valueOf(12345)");
+		// java.math
+		EXPRESSIONS.put("java.math.BigInteger", "new java.math.BigInteger(\"12345678\")");
+		EXPRESSIONS.put("java.math.BigDecimal", "new java.math.BigDecimal(\"123456.789\")");
+		// java.time (fixed values)
+		EXPRESSIONS.put("java.time.LocalDate", "java.time.LocalDate.of(2020, 1, 15)");
+		EXPRESSIONS.put("java.time.LocalDateTime", "java.time.LocalDateTime.of(2020, 1, 15, 10, 30)");
+		EXPRESSIONS.put("java.time.LocalTime", "java.time.LocalTime.of(10, 30)");
+		EXPRESSIONS.put("java.time.ZonedDateTime", "java.time.ZonedDateTime.of(2020, 1, 15, 10, 30, 0, 0, java.time.ZoneOffset.UTC)");
+		EXPRESSIONS.put("java.time.OffsetDateTime", "java.time.OffsetDateTime.of(2020, 1, 15, 10, 30, 0, 0, java.time.ZoneOffset.UTC)");
+		EXPRESSIONS.put("java.time.OffsetTime", "java.time.OffsetTime.of(10, 30, 0, 0, java.time.ZoneOffset.UTC)");
+		EXPRESSIONS.put("java.time.Instant", "java.time.Instant.ofEpochSecond(1579084200L)");
+		EXPRESSIONS.put("java.time.Duration", "java.time.Duration.ofMinutes(45)");
+		EXPRESSIONS.put("java.time.Period", "java.time.Period.ofDays(12)");
+		EXPRESSIONS.put("java.time.Year", "java.time.Year.of(2020)");
+		EXPRESSIONS.put("java.time.YearMonth", "java.time.YearMonth.of(2020, 1)");
+		EXPRESSIONS.put("java.time.Month", "java.time.Month.AUGUST");
+		EXPRESSIONS.put("java.time.MonthDay", "java.time.MonthDay.of(1, 15)");
+		EXPRESSIONS.put("java.time.DayOfWeek", "java.time.DayOfWeek.SATURDAY");
+		EXPRESSIONS.put("java.time.ZoneOffset", "java.time.ZoneOffset.UTC");
+		// java.util
+		EXPRESSIONS.put("java.util.UUID", "java.util.UUID.fromString(\"3bd4a217-82c0-4cb1-9b3e-935e6f56a34a\")");
+		EXPRESSIONS.put("java.util.Currency", "java.util.Currency.getInstance(\"EUR\")");
+		EXPRESSIONS.put("java.util.Date", "new java.util.Date(1579084200000L)");
+		// java.text (mutable)
+		EXPRESSIONS.put("java.text.SimpleDateFormat", "new java.text.SimpleDateFormat()");
+		EXPRESSIONS.put("java.text.MessageFormat", "new java.text.MessageFormat(\"{0} days, {1} hours, {2} minutes)\")");
+		// java.net
+		EXPRESSIONS.put("java.net.URL", PojoTestSupport.class.getName() + ".url(\"http://www.example.com/\")");
+		EXPRESSIONS.put("java.net.URI", "java.net.URI.create(\"http://www.example.com/\")");
+		// java.sql
+		EXPRESSIONS.put("java.sql.Date", "new java.sql.Date(2000000000L)");
+		EXPRESSIONS.put("java.sql.Time", "new java.sql.Time(3000000000L)");
+		EXPRESSIONS.put("java.sql.Timestamp", "new java.sql.Timestamp(4000000000L)");
+	}
+
+	private ValueExpressions() {
+	}
+
+	/**
+	 * Returns the Java expression of a value for the given type <br>
+	 * (the 'values' function is used if no built-in expression)
+	 * @param type
+	 * @param types
+	 * @return
+	 */
+	static String expressionFor(TypeMirror type, Types types) {
+		String expression = EXPRESSIONS.get(types.erasure(type).toString());
+		if ( expression != null && ( type.getKind().isPrimitive() || ((DeclaredType) type).getTypeArguments().isEmpty() ) ) {
+			return expression;
+		}
+		if ( type.getKind() == TypeKind.DECLARED ) {
+			TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+			if ( element.getKind() == ElementKind.ENUM ) {
+				List<? extends Element> members = element.getEnclosedElements();
+				for (Element member : members) {
+					if ( member.getKind() == ElementKind.ENUM_CONSTANT ) {
+						return element.getQualifiedName() + "." + member.getSimpleName();
+					}
+				}
+			}
+		}
+		// runtime value (the cast is unchecked for a parameterized type)
+		return "(" + type + ") values.apply(" + types.erasure(type) + ".class)";
+	}
+}
@@ -0,0 +1,228 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compiles sample classes with the processor and runs the generated tests
+ *
+ * @author Laurent Guerin
+ *
+ */
+public class PojoTestedProcessorTest {
+
+	private static final String COLOR = "package sample;\n"
+			+ "public enum Color { RED, GREEN }\n";
+
+	private static final String BASE = "package sample;\n"
+			+ "public class Base<T> {\n"
+			+ "	private T code;\n"
+			+ "	public T getCode() { return code; }\n"
+			+ "	public void setCode(T code) { this.code = code; }\n"
+			+ "}\n";
+
+	private static final String CAR = "package sample;\n"
+			+ "public class Car extends Base<Long> {\n"
+			+ "	private Color color;\n"
+			+ "	private double speed;\n"
+			+ "	private java.util.List<String> options;\n"
+			+ "	private StringBuilder notes;\n"
+			+ "	public Color getColor() { return color; }\n"
+			+ "	public void setColor(Color color) { this.color = color; }\n"
+			+ "	public double getSpeed() { return speed; }\n"
+			+ "	public void setSpeed(double speed) { this.speed = speed; }\n"
+			+ "	public java.util.List<String> getOptions() { return options; }\n"
+			+ "	public void setOptions(java.util.List<String> options) { this.options = options; }\n"
+			+ "	public void setNotes(StringBuilder notes) { this.notes = notes; }\n" // no getter
+			+ "}\n";
+
+	private static final String COUNTER = "package sample;\n"
+			+ "public class Counter {\n"
+			+ "	private int count;\n"
+			+ "	public int getCount() { return count + 1; }\n" // bug
+			+ "	public void setCount(int count) { this.count = count; }\n"
+			+ "}\n";
+
+	// types of the tester built-in generators without literal value
+	private static final String SETTINGS = "package sample;\n"
+			+ "public class Settings {\n"
+			+ "	private Object owner;\n"
+			+ "	@SuppressWarnings(\"rawtypes\") private Comparable key;\n"
+			+ "	private java.net.URL site;\n"
+			+ "	private java.text.SimpleDateFormat dateFormat;\n"
+			+ "	private java.text.MessageFormat messageFormat;\n"
+			+ "	private java.time.Month month;\n"
+			+ "	private java.time.DayOfWeek day;\n"
+			+ "	private int level;\n"
+			+ "	public Object getOwner() { return owner; }\n"
+			+ "	public void setOwner(Object owner) { this.owner = owner; }\n"
+			+ "	@SuppressWarnings(\"rawtypes\") public Comparable getKey() { return key; }\n"
+			+ "	@SuppressWarnings(\"rawtypes\") public void setKey(Comparable key) { this.key = key; }\n"
+			+ "	public java.net.URL getSite() { return site; }\n"
+			+ "	public void setSite(java.net.URL site) { this.site = site; }\n"
+			+ "	public java.text.SimpleDateFormat getDateFormat() { return dateFormat; }\n"
+			+ "	public void setDateFormat(java.text.SimpleDateFormat dateFormat) { this.dateFormat = dateFormat; }\n"
+			+ "	public java.text.MessageFormat getMessageFormat() { return messageFormat; }\n"
+			+ "	public void setMessageFormat(java.text.MessageFormat messageFormat) { this.messageFormat = messageFormat; }\n"
+			+ "	public java.time.Month getMonth() { return month; }\n"
+			+ "	public void setMonth(java.time.Month month) { this.month = month; }\n"
+			+ "	public java.time.DayOfWeek getDay() { return day; }\n"
+			+ "	public void setDay(java.time.DayOfWeek day) { this.day = day; }\n"
+			+ "	public Integer getLevel() { return level; }\n" // boxed getter
+			+ "	public void setLevel(int level) { this.level = level; }\n"
+			+ "}\n";
+
+	private static final String TESTS = "package sample;\n"
+			+ "@tinyunittester.processor.PojoTested({ Car.class, Counter.class, Settings.class })\n"
+			+ "class SampleTests {\n"
+			+ "}\n";
+
+	private static final String NO_CONSTRUCTOR = "package sample;\n"
+			+ "@tinyunittester.processor.PojoTested\n"
+			+ "public class NoConstructor {\n"
+			+ "	public NoConstructor(int x) { }\n"
+			+ "	public void setX(int x) { }\n"
+			+ "}\n";
+
+	private static final String PACKAGE_INFO = "@tinyunittester.processor.PojoTested\n"
+			+ "package sample;\n";
+
+	private static final String OUTER = "package sample;\n"
+			+ "public class Outer {\n"
+			+ "	private int x;\n"
+			+ "	public int getX() { return x; }\n"
+			+ "	public void setX(int x) { this.x = x; }\n"
+			+ "	public static class Inner {\n"
+			+ "		private int y;\n"
+			+ "		public int getY() { return y; }\n"
+			+ "		public void setY(int y) { this.y = y; }\n"
+			+ "	}\n"
+			+ "}\n";
+
+	/**
+	 * Compiles the given sources with the processor
+	 * @param dir
+	 * @param sources
+	 * @return the diagnostics (errors and warnings in the generated sources)
+	 * @throws IOException
+	 */
+	private List<String> compile(Path dir, String... sources) throws IOException {
+		List<Path> files = new ArrayList<>();
+		for (String source : sources) {
+			String name = source.startsWith("@") ? "package-info" : source.replaceAll("(?s).*?\\b(?:class|enum) (\\w+).*", "$1");
+			Path file = dir.resolve("src/sample/" + name + ".java");
+			Files.createDirectories(file.getParent());
+			Files.write(file, source.getBytes("UTF-8"));
+			files.add(file);
+		}
+		Files.createDirectories(dir.resolve("classes"));
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+					Arrays.asList("-d", dir.resolve("classes").toString(), "-Xlint:all"),
+					null, fileManager.getJavaFileObjectsFromPaths(files));
+			task.setProcessors(Arrays.asList(new PojoTestedProcessor()));
+			task.call();
+		}
+		List<String> errors = new ArrayList<>();
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+			if ( diagnostic.getKind() == Diagnostic.Kind.ERROR ) {
+				errors.add(diagnostic.getMessage(null));
+			}
+			else if ( diagnostic.getKind() == Diagnostic.Kind.WARNING && diagnostic.getSource() != null
+					&& diagnostic.getSource().getName().endsWith("PojoChecks.java") ) {
+				errors.add(diagnostic.getSource().getName() + " : " + diagnostic.getMessage(null));
+			}
+		}
+		return errors;
+	}
+
+	private Object runTest(ClassLoader loader, String className, Object values) throws Throwable {
+		Class<?> testClass = loader.loadClass(className);
+		try {
+			if ( values == null ) {
+				return testClass.getMethod("test").invoke(null);
+			}
+			Method method = testClass.getMethod("test", Function.class);
+			return method.invoke(null, values);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	@Test
+	public void testGeneratedTests(@TempDir Path dir) throws Throwable {
+		List<String> errors = compile(dir, COLOR, BASE, CAR, COUNTER, SETTINGS, TESTS);
+		assertTrue(errors.isEmpty(), errors.toString());
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.resolve("classes").toUri().toURL() },
+				getClass().getClassLoader())) {
+			// 'List' and 'StringBuilder' have no built-in value
+			Function<Class<?>, Object> values = type -> type == StringBuilder.class ? new StringBuilder("x") : Arrays.asList("a", "b");
+			assertEquals(5, runTest(loader, "sample.CarPojoChecks", values));
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+					() -> runTest(loader, "sample.CarPojoChecks", null));
+			assertTrue(e.getMessage().contains("java.lang.StringBuilder"), e.getMessage());
+			// getter bug detected
+			AssertionError error = assertThrows(AssertionError.class, () -> runTest(loader, "sample.CounterPojoChecks", null));
+			assertEquals("Counter : setCount : 12345 / getCount : 12346", error.getMessage());
+			// all the types have a built-in value (no 'values' function)
+			assertEquals(8, runTest(loader, "sample.SettingsPojoChecks", null));
+		}
+	}
+
+	@Test
+	public void testNoConstructor(@TempDir Path dir) throws Throwable {
+		List<String> errors = compile(dir, NO_CONSTRUCTOR);
+		assertFalse(errors.isEmpty());
+		assertTrue(errors.get(0).contains("no public constructor without argument"), errors.toString());
+	}
+
+	@Test
+	public void testPackage(@TempDir Path dir) throws Throwable {
+		List<String> errors = compile(dir, PACKAGE_INFO, OUTER);
+		assertTrue(errors.isEmpty(), errors.toString());
+		// only the top-level classes of the package
+		assertTrue(Files.exists(dir.resolve("classes/sample/OuterPojoChecks.class")));
+		assertFalse(Files.exists(dir.resolve("classes/sample/Outer_InnerPojoChecks.class")));
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.resolve("classes").toUri().toURL() },
+				getClass().getClassLoader())) {
+			assertEquals(1, runTest(loader, "sample.OuterPojoChecks", null));
+		}
+	}
+}
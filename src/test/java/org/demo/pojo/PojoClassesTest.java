@@ -1,27 +1,135 @@
 package org.demo.pojo;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.tools.ToolProvider;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import tinyunittester.ConsoleLogSink;
+import tinyunittester.ExecutionMode;
+import tinyunittester.FailureMode;
+import tinyunittester.LogLevel;
+import tinyunittester.PojoTestListener;
+import tinyunittester.PojoTestResult;
 import tinyunittester.PojoUnitTester;
+import tinyunittester.junit.PojoTest;
+import tinyunittester.scan.PackageScanner;
 
 
+@PojoTest
 public class PojoClassesTest {
-	
-	static final boolean TRACE = true;
 
 	@Test
-	public void testEmployeeDTO() {
-		new PojoUnitTester(TRACE).testAll(Employee.class);
+	public void testEmployeeDTO(PojoUnitTester tester) {
+		tester.testAll(Employee.class);
 	}
 
 	@Test
-	public void testImbalance() {
-		new PojoUnitTester(TRACE).testAll(Imbalance.class);
+	public void testImbalance(PojoUnitTester tester) {
+		tester.testAll(Imbalance.class);
 	}
 
 	@Test
-	public void testInvalid() {
+	public void testInvalid(PojoUnitTester tester) {
 		// ERROR in this POJO
-		new PojoUnitTester(TRACE).testAll(Invalid.class);
+		tester.testAll(Invalid.class);
+	}
+
+	@Test
+	public void testAllClassesInParallel() {
+		PojoTestResult result = new PojoUnitTester().testAll(Employee.class, Imbalance.class, Invalid.class);
+		assertEquals(3, result.getClassCount());
+		// ERROR in 'Invalid' POJO
+		assertEquals(1, result.getFailures().size());
+		assertEquals(Invalid.class, result.getFailures().get(0).getTestedClass());
+	}
+
+	@Test
+	public void testMissingDependency(@TempDir Path dir) throws Exception {
+		// 'Broken' has a setter parameter whose class is removed after compilation
+		Path sources = Files.createDirectories(dir.resolve("src/x"));
+		Files.write(sources.resolve("Dep.java"), "package x; public class Dep { }".getBytes());
+		Files.write(sources.resolve("Ok.java"), ("package x; public class Ok { private int v; "
+				+ "public int getV() { return v; } public void setV(int v) { this.v = v; } }").getBytes());
+		Files.write(sources.resolve("Broken.java"), ("package x; public class Broken { private Dep d; "
+				+ "public Dep getD() { return d; } public void setD(Dep d) { this.d = d; } }").getBytes());
+		Path classes = Files.createDirectories(dir.resolve("classes"));
+		assertEquals(0, ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", classes.toString(),
+				sources.resolve("Dep.java").toString(), sources.resolve("Ok.java").toString(), sources.resolve("Broken.java").toString()));
+		Files.delete(classes.resolve("x/Dep.class"));
+		try ( URLClassLoader loader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, getClass().getClassLoader()) ) {
+			Class<?> ok = loader.loadClass("x.Ok");
+			Class<?> broken = loader.loadClass("x.Broken");
+			// only 'Broken' fails, whatever the runner
+			for (ExecutionMode mode : ExecutionMode.values()) {
+				PojoUnitTester tester = PojoUnitTester.builder().executionMode(mode).build();
+				assertMissingDependency(broken, 2, tester.testAll(ok, broken));
+				assertMissingDependency(broken, 2, tester.testPackage(PackageScanner.builder()
+						.packageName("x").classLoader(loader).build()));
+			}
+			assertThrows(NoClassDefFoundError.class, () -> new PojoUnitTester().testAll(broken));
+		}
+	}
+
+	private void assertMissingDependency(Class<?> broken, int classCount, PojoTestResult result) {
+		assertEquals(classCount, result.getClassCount());
+		assertEquals(1, result.getFailures().size());
+		assertEquals(broken, result.getFailures().get(0).getTestedClass());
+		assertTrue(result.getFailures().get(0).getCause() instanceof NoClassDefFoundError);
+	}
+
+	@Test
+	public void testConsoleLogFlushed() {
+		ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+		PojoUnitTester tester = PojoUnitTester.builder().logLevel(LogLevel.TRACE)
+				.logSink(new ConsoleLogSink(new PrintStream(stdout, true), "PojoTester: ")).build();
+		// written at the end of each call (not kept in the buffer of the thread)
+		tester.testDefaultConstructor(Employee.class);
+		assertTrue(stdout.toString().contains("PojoTester: Employee: new instance"));
+		tester.testAll(Arrays.asList(Employee.class, Imbalance.class));
+		assertTrue(stdout.toString().contains("PojoTester: Imbalance: setName(Z)"));
+	}
+
+	@Test
+	public void testVirtualThreads() throws ReflectiveOperationException {
+		// virtual threads depend only on the JDK running the tests (Java 21 or more), not on the compiler release
+		boolean supported = Runtime.version().feature() >= 21;
+		Method isVirtual = supported ? Thread.class.getMethod("isVirtual") : null;
+		Map<Class<?>, Thread> startThreads = new ConcurrentHashMap<>();
+		PojoTestListener listener = new PojoTestListener() {
+			@Override
+			public void classStarted(Class<?> testedClass) {
+				startThreads.put(testedClass, Thread.currentThread());
+			}
+		};
+		PojoTestResult result = PojoUnitTester.builder().executionMode(ExecutionMode.VIRTUAL_THREADS)
+				.failureMode(FailureMode.COLLECT_ALL).listener(listener).build()
+				.testAll(Employee.class, Imbalance.class, Invalid.class);
+		assertEquals(3, startThreads.size());
+		for (Thread thread : startThreads.values()) {
+			// before Java 21 : fallback to 'FORK_JOIN' (platform threads)
+			assertEquals(supported, supported && (Boolean) isVirtual.invoke(thread));
+		}
+		PojoTestResult expected = PojoUnitTester.builder().executionMode(ExecutionMode.FORK_JOIN)
+				.failureMode(FailureMode.COLLECT_ALL).build()
+				.testAll(Employee.class, Imbalance.class, Invalid.class);
+		assertEquals(expected.getClassCount(), result.getClassCount());
+		assertEquals(expected.getPropertyCount(), result.getPropertyCount());
+		assertEquals(expected.getFailures().size(), result.getFailures().size());
 	}
 }
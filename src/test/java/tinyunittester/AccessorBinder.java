@@ -0,0 +1,213 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Invocation engine for setters and getters <br>
+ * Each accessor is bound once to a 'BiConsumer' (setter) or a 'Function' (getter)
+ * generated with 'LambdaMetafactory' (no boxing of the arguments array, no access check for each call) <br>
+ * If the lambda cannot be generated (eg class defined by another class loader, so in another unnamed module)
+ * the accessor is invoked through its method handle, and if the method handle is not accessible
+ * the reflective invocation is used (an 'Error' while binding, eg a 'LinkageError', is propagated). <br>
+ *
+ * In both cases the exception thrown by the accessor itself is propagated 'as is'
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class AccessorBinder {
+
+	private AccessorBinder() {
+	}
+
+	/**
+	 * Returns a 'BiConsumer' invoking the given setter : (instance, value)
+	 * @param setter
+	 * @return
+	 */
+	static BiConsumer<Object, Object> bindSetter(Method setter) {
+		BiConsumer<Object, Object> invoker = lambdaSetter(setter);
+		if ( invoker == null ) {
+			invoker = handleSetter(setter);
+		}
+		return invoker != null ? invoker : reflectiveSetter(setter);
+	}
+
+	/**
+	 * Returns a 'Function' invoking the given getter : (instance) -> value
+	 * @param getter
+	 * @return
+	 */
+	static Function<Object, Object> bindGetter(Method getter) {
+		Function<Object, Object> invoker = lambdaGetter(getter);
+		if ( invoker == null ) {
+			invoker = handleGetter(getter);
+		}
+		return invoker != null ? invoker : reflectiveGetter(getter);
+	}
+
+	/**
+	 * Returns the setter generated with 'LambdaMetafactory' or null if it cannot be generated
+	 * @param setter
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	static BiConsumer<Object, Object> lambdaSetter(Method setter) {
+		Class<?> owner = setter.getDeclaringClass();
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(setter);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+					MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class),
+					handle,
+					MethodType.methodType(void.class, owner, wrap(setter.getParameterTypes()[0])) );
+			return (BiConsumer<Object, Object>) site.getTarget().invoke();
+		} catch (ReflectiveOperationException | LambdaConversionException | RuntimeException e) {
+			return null;
+		} catch (Throwable e) {
+			throw AccessorBinder.<RuntimeException>sneakyThrow(e); // Error (eg LinkageError) : not a binding failure
+		}
+	}
+
+	/**
+	 * Returns the setter invoked through its method handle or null if the method handle is not accessible
+	 * @param setter
+	 * @return
+	 */
+	static BiConsumer<Object, Object> handleSetter(Method setter) {
+		MethodHandle handle = unreflect(setter, MethodType.methodType(void.class, Object.class, Object.class));
+		if ( handle == null ) {
+			return null;
+		}
+		return (instance, value) -> {
+			try {
+				handle.invokeExact(instance, value);
+			} catch (Throwable t) {
+				throw AccessorBinder.<RuntimeException>sneakyThrow(t);
+			}
+		};
+	}
+
+	/**
+	 * Returns the setter invoked by reflection
+	 * @param setter
+	 * @return
+	 */
+	static BiConsumer<Object, Object> reflectiveSetter(Method setter) {
+		return (instance, value) -> invoke(setter, instance, value);
+	}
+
+	/**
+	 * Returns the getter generated with 'LambdaMetafactory' or null if it cannot be generated
+	 * @param getter
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object> lambdaGetter(Method getter) {
+		Class<?> owner = getter.getDeclaringClass();
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(getter);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+					MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class),
+					handle,
+					MethodType.methodType(wrap(getter.getReturnType()), owner) );
+			return (Function<Object, Object>) site.getTarget().invoke();
+		} catch (ReflectiveOperationException | LambdaConversionException | RuntimeException e) {
+			return null;
+		} catch (Throwable e) {
+			throw AccessorBinder.<RuntimeException>sneakyThrow(e); // Error (eg LinkageError) : not a binding failure
+		}
+	}
+
+	/**
+	 * Returns the getter invoked through its method handle or null if the method handle is not accessible
+	 * @param getter
+	 * @return
+	 */
+	static Function<Object, Object> handleGetter(Method getter) {
+		MethodHandle handle = unreflect(getter, MethodType.methodType(Object.class, Object.class));
+		if ( handle == null ) {
+			return null;
+		}
+		return instance -> {
+			try {
+				return (Object) handle.invokeExact(instance);
+			} catch (Throwable t) {
+				throw AccessorBinder.<RuntimeException>sneakyThrow(t);
+			}
+		};
+	}
+
+	/**
+	 * Returns the getter invoked by reflection
+	 * @param getter
+	 * @return
+	 */
+	static Function<Object, Object> reflectiveGetter(Method getter) {
+		return instance -> invoke(getter, instance);
+	}
+
+	/**
+	 * Returns the method handle adapted to the given generic type or null if not accessible
+	 * @param method
+	 * @param type
+	 * @return
+	 */
+	private static MethodHandle unreflect(Method method, MethodType type) {
+		try {
+			return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+					.unreflect(method).asType(type);
+		} catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+	/**
+	 * Reflective invocation (fallback)
+	 * @param method
+	 * @param instance
+	 * @param args
+	 * @return
+	 */
+	private static Object invoke(Method method, Object instance, Object... args) {
+		try {
+			return method.invoke(instance, args);
+		} catch (InvocationTargetException e) {
+			throw AccessorBinder.<RuntimeException>sneakyThrow(e.getCause());
+		} catch (IllegalAccessException e) {
+			throw AccessorBinder.<RuntimeException>sneakyThrow(e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T extends Throwable> T sneakyThrow(Throwable e) throws T {
+		throw (T) e;
+	}
+}
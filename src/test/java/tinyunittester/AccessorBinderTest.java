@@ -0,0 +1,122 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class AccessorBinderTest {
+
+	/**
+	 * Private nested class (public accessors)
+	 */
+	private static class Box {
+		private int count;
+
+		public int getCount() {
+			return count;
+		}
+		public void setCount(int count) {
+			this.count = count;
+		}
+		public void setName(String name) {
+			if ( name == null ) {
+				throw new IllegalArgumentException("null name");
+			}
+		}
+		public void setFile(String file) throws IOException {
+			throw new IOException(file);
+		}
+	}
+
+	private static Method method(Class<?> clazz, String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+		return clazz.getMethod(name, parameterTypes);
+	}
+
+	/**
+	 * Returns the setters of all the binding levels (lambda, method handle, reflection)
+	 */
+	private static List<BiConsumer<Object, Object>> setters(Method setter) {
+		return Arrays.asList(AccessorBinder.lambdaSetter(setter), AccessorBinder.handleSetter(setter),
+				AccessorBinder.reflectiveSetter(setter));
+	}
+
+	private static List<Function<Object, Object>> getters(Method getter) {
+		return Arrays.asList(AccessorBinder.lambdaGetter(getter), AccessorBinder.handleGetter(getter),
+				AccessorBinder.reflectiveGetter(getter));
+	}
+
+	@Test
+	public void testAllLevels() throws Exception {
+		List<BiConsumer<Object, Object>> setters = setters(method(Box.class, "setCount", int.class));
+		List<Function<Object, Object>> getters = getters(method(Box.class, "getCount"));
+		for (int i = 0 ; i < setters.size() ; i++) {
+			Box box = new Box();
+			setters.get(i).accept(box, 7);
+			assertEquals(7, box.count);
+			assertEquals(Integer.valueOf(7), getters.get(i).apply(box));
+		}
+	}
+
+	@Test
+	public void testExceptionsPropagated() throws Exception {
+		for (BiConsumer<Object, Object> setter : setters(method(Box.class, "setName", String.class))) {
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> setter.accept(new Box(), null));
+			assertEquals("null name", e.getMessage());
+		}
+		// checked exception not wrapped
+		for (BiConsumer<Object, Object> setter : setters(method(Box.class, "setFile", String.class))) {
+			IOException e = assertThrows(IOException.class, () -> setter.accept(new Box(), "foo.txt"));
+			assertEquals("foo.txt", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testLambdaForPrivateClass() throws Exception {
+		BiConsumer<Object, Object> setter = AccessorBinder.bindSetter(method(Box.class, "setCount", int.class));
+		// generated in the nest of the accessor class (not a fallback lambda of the binder)
+		assertTrue(setter.getClass().getName().startsWith(Box.class.getName() + "$$Lambda"), setter.getClass().getName());
+		Function<Object, Object> getter = AccessorBinder.bindGetter(method(Box.class, "getCount"));
+		assertTrue(getter.getClass().getName().startsWith(Box.class.getName() + "$$Lambda"), getter.getClass().getName());
+	}
+
+	@Test
+	public void testReflectionFallback() throws Exception {
+		// 'java.util' is not open to the tester : no lambda, no method handle
+		Method setTime = method(Date.class, "setTime", long.class);
+		Method getTime = method(Date.class, "getTime");
+		assertNull(AccessorBinder.lambdaSetter(setTime));
+		assertNull(AccessorBinder.handleSetter(setTime));
+		assertNull(AccessorBinder.lambdaGetter(getTime));
+		assertNull(AccessorBinder.handleGetter(getTime));
+		BiConsumer<Object, Object> setter = AccessorBinder.bindSetter(setTime);
+		Function<Object, Object> getter = AccessorBinder.bindGetter(getTime);
+		assertNotNull(setter);
+		Date date = new Date();
+		setter.accept(date, 123456789L);
+		assertEquals(123456789L, date.getTime());
+		assertEquals(Long.valueOf(123456789L), getter.apply(date));
+	}
+}
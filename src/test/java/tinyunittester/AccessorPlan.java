@@ -0,0 +1,136 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable 'accessor plan' for a class : all the setters with their getters (if any) <br>
+ * The plan is computed once per class (in a single pass on the public methods)
+ * and shared by all the testers
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class AccessorPlan {
+
+	// Setter/Getter prefix
+	private static final String SET = "set";
+	private static final String GET = "get";
+	private static final String IS = "is";
+
+	private static final ClassValue<AccessorPlan> PLANS = new ClassValue<AccessorPlan>() {
+		@Override
+		protected AccessorPlan computeValue(Class<?> clazz) {
+			return build(clazz);
+		}
+	};
+
+	private final Class<?> targetClass;
+	private final List<PropertyAccessor> properties;
+
+	private AccessorPlan(Class<?> targetClass, List<PropertyAccessor> properties) {
+		super();
+		this.targetClass = targetClass;
+		this.properties = Collections.unmodifiableList(properties);
+	}
+
+	/**
+	 * Returns the plan for the given class (built on first call, then reused)
+	 * @param clazz
+	 * @return
+	 */
+	public static AccessorPlan of(Class<?> clazz) {
+		return PLANS.get(clazz);
+	}
+
+	public Class<?> getTargetClass() {
+		return targetClass;
+	}
+
+	/**
+	 * Returns all the properties (1 property for each setter with a single parameter)
+	 * @return
+	 */
+	public List<PropertyAccessor> getProperties() {
+		return properties;
+	}
+
+	private static AccessorPlan build(Class<?> clazz) {
+		Method[] methods = clazz.getMethods();
+		// single pass : keep setters and index public methods without parameter by name
+		List<Method> setters = new ArrayList<>();
+		Map<String, Method> noArgMethods = new HashMap<>(methods.length * 2);
+		for (Method method : methods) {
+			if ( isSetterWithSingleParameter(method) ) {
+				setters.add(method);
+			}
+			else if ( method.getParameterCount() == 0 ) {
+				Method previous = noArgMethods.put(method.getName(), method);
+				if ( previous != null && method.isBridge() ) {
+					noArgMethods.put(previous.getName(), previous); // keep the most specific
+				}
+			}
+		}
+		ValueGeneratorRegistry registry = ValueGeneratorRegistry.getDefault();
+		List<PropertyAccessor> properties = new ArrayList<>(setters.size());
+		for (Method setter : setters) {
+			String name = setter.getName().substring(SET.length());
+			Method getter = searchGetter(noArgMethods, name);
+			properties.add(new PropertyAccessor(name, setter, getter,
+					registry.generatorFor(setter.getParameterTypes()[0])));
+		}
+		return new AccessorPlan(clazz, properties);
+	}
+
+	private static Method searchGetter(Map<String, Method> noArgMethods, String name) {
+		Method method = noArgMethods.get(GET + name); // getXxx
+		if ( method == null ) {
+			method = noArgMethods.get(IS + name); // isXxx
+		}
+		if (method != null && isGetter(method) ) {
+			return method;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static boolean isSetterWithSingleParameter(Method method) {
+		int modifiers = method.getModifiers();
+		return method.getName().startsWith(SET)
+				&& Modifier.isPublic(modifiers)
+				&& ! Modifier.isAbstract(modifiers)
+				&& ! Modifier.isStatic(modifiers)
+				&& method.getParameterCount() == 1;
+	}
+
+	private static boolean isGetter(Method method) {
+		int modifiers = method.getModifiers();
+		return ( method.getName().startsWith(GET) || method.getName().startsWith(IS) )
+				&& Modifier.isPublic(modifiers)
+				&& ! Modifier.isAbstract(modifiers)
+				&& ! Modifier.isStatic(modifiers)
+				&& method.getParameterCount() == 0;
+	}
+
+	@Override
+	public String toString() {
+		return targetClass.getSimpleName() + " " + properties;
+	}
+}
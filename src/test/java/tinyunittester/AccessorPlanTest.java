@@ -0,0 +1,105 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.demo.pojo.Employee;
+import org.junit.jupiter.api.Test;
+
+public class AccessorPlanTest {
+
+	/**
+	 * Getter with a covariant return type (bridge method in 'Child')
+	 */
+	public static class Parent {
+		public Object getCode() {
+			return null;
+		}
+	}
+
+	public static class Child extends Parent {
+		private String code;
+
+		@Override
+		public String getCode() {
+			return code;
+		}
+		public void setCode(String code) {
+			this.code = code;
+		}
+		public void setOnlySetter(int value) {
+			// no getter
+		}
+	}
+
+	@Test
+	public void testPlanReused() throws Exception {
+		AccessorPlan plan = AccessorPlan.of(Employee.class);
+		assertSame(plan, AccessorPlan.of(Employee.class));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertSame(plan, executor.submit(() -> AccessorPlan.of(Employee.class)).get());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testPlanSharedByTesters() {
+		AccessorPlan plan = AccessorPlan.of(Employee.class);
+		for (boolean pooledValues : new boolean[] { false, true }) {
+			Map<String, PropertyAccessor> verified = new ConcurrentHashMap<>();
+			PojoUnitTester tester = PojoUnitTester.builder().pooledValues(pooledValues).listener(new PojoTestListener() {
+				@Override
+				public void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+					verified.put(property.getName(), property);
+				}
+			}).build();
+			tester.testAll(Employee.class);
+			assertEquals(plan.getProperties().size(), verified.size());
+			for (PropertyAccessor property : plan.getProperties()) {
+				// each tester uses the properties of the shared plan (no new discovery)
+				assertSame(property, verified.get(property.getName()));
+			}
+		}
+	}
+
+	@Test
+	public void testPlanContent() {
+		AccessorPlan plan = AccessorPlan.of(Child.class);
+		assertSame(Child.class, plan.getTargetClass());
+		assertEquals(2, plan.getProperties().size());
+		for (PropertyAccessor property : plan.getProperties()) {
+			if ( property.getName().equals("Code") ) {
+				// most specific getter (not the bridge method)
+				assertEquals(String.class, property.getGetter().getReturnType());
+			}
+			else {
+				assertEquals("OnlySetter", property.getName());
+				assertNull(property.getGetter());
+			}
+		}
+		assertThrows(UnsupportedOperationException.class, () -> plan.getProperties().clear());
+		assertTrue(AccessorPlan.of(Employee.class).getProperties().stream().anyMatch(p -> p.getName().equals("Manager")));
+	}
+}
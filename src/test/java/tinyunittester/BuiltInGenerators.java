@@ -0,0 +1,317 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.text.MessageFormat;
+import java.text.SimpleDateFormat;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Built-in value generators (1 generator for each group of types)
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class BuiltInGenerators {
+
+	// common super types (names)
+	private static final String SERIALIZABLE = "java.io.Serializable";
+	private static final String COMPARABLE = "java.lang.Comparable";
+	private static final String CLONEABLE = "java.lang.Cloneable";
+	private static final String NUMBER = "java.lang.Number";
+	private static final String CONSTABLE = "java.lang.constant.Constable";
+	private static final String CONSTANT_DESC = "java.lang.constant.ConstantDesc";
+	private static final String TEMPORAL = "java.time.temporal.Temporal";
+	private static final String ACCESSOR = "java.time.temporal.TemporalAccessor";
+	private static final String ADJUSTER = "java.time.temporal.TemporalAdjuster";
+
+	/**
+	 * Public super types (all levels, except 'Object') of the built-in types, by type name <br>
+	 * Used to find the built-in sub types of a parameter type without loading the built-in types
+	 * (checked against the JDK classes in 'BuiltInGeneratorsTest')
+	 */
+	private static final Map<String, Set<String>> SUPER_TYPES = new HashMap<>();
+
+	static {
+		superTypes("java.lang.Boolean", SERIALIZABLE, COMPARABLE, CONSTABLE);
+		superTypes("java.lang.Byte", SERIALIZABLE, COMPARABLE, NUMBER, CONSTABLE);
+		superTypes("java.lang.Character", SERIALIZABLE, COMPARABLE, CONSTABLE);
+		superTypes("java.lang.Double", SERIALIZABLE, COMPARABLE, NUMBER, CONSTABLE, CONSTANT_DESC);
+		superTypes("java.lang.Enum", SERIALIZABLE, COMPARABLE, CONSTABLE);
+		superTypes("java.lang.Float", SERIALIZABLE, COMPARABLE, NUMBER, CONSTABLE, CONSTANT_DESC);
+		superTypes("java.lang.Integer", SERIALIZABLE, COMPARABLE, NUMBER, CONSTABLE, CONSTANT_DESC);
+		superTypes("java.lang.Long", SERIALIZABLE, COMPARABLE, NUMBER, CONSTABLE, CONSTANT_DESC);
+		superTypes("java.lang.Number", SERIALIZABLE);
+		superTypes("java.lang.Short", SERIALIZABLE, COMPARABLE, NUMBER, CONSTABLE);
+		superTypes("java.lang.String", SERIALIZABLE, "java.lang.CharSequence", COMPARABLE, CONSTABLE, CONSTANT_DESC);
+		superTypes("java.math.BigDecimal", SERIALIZABLE, COMPARABLE, NUMBER);
+		superTypes("java.math.BigInteger", SERIALIZABLE, COMPARABLE, NUMBER);
+		superTypes("java.net.URI", SERIALIZABLE, COMPARABLE);
+		superTypes("java.net.URL", SERIALIZABLE);
+		superTypes("java.sql.Date", SERIALIZABLE, CLONEABLE, COMPARABLE, "java.util.Date");
+		superTypes("java.sql.Time", SERIALIZABLE, CLONEABLE, COMPARABLE, "java.util.Date");
+		superTypes("java.sql.Timestamp", SERIALIZABLE, CLONEABLE, COMPARABLE, "java.util.Date");
+		superTypes("java.text.MessageFormat", SERIALIZABLE, CLONEABLE, "java.text.Format");
+		superTypes("java.text.SimpleDateFormat", SERIALIZABLE, CLONEABLE, "java.text.DateFormat", "java.text.Format");
+		superTypes("java.time.DayOfWeek", SERIALIZABLE, COMPARABLE, "java.lang.Enum", CONSTABLE, ACCESSOR, ADJUSTER);
+		superTypes("java.time.Duration", SERIALIZABLE, COMPARABLE, "java.time.temporal.TemporalAmount");
+		superTypes("java.time.Instant", SERIALIZABLE, COMPARABLE, TEMPORAL, ACCESSOR, ADJUSTER);
+		superTypes("java.time.LocalDate", SERIALIZABLE, COMPARABLE, "java.time.chrono.ChronoLocalDate", TEMPORAL, ACCESSOR, ADJUSTER);
+		superTypes("java.time.LocalDateTime", SERIALIZABLE, COMPARABLE, "java.time.chrono.ChronoLocalDateTime", TEMPORAL, ACCESSOR, ADJUSTER);
+		superTypes("java.time.LocalTime", SERIALIZABLE, COMPARABLE, TEMPORAL, ACCESSOR, ADJUSTER);
+		superTypes("java.time.Month", SERIALIZABLE, COMPARABLE, "java.lang.Enum", CONSTABLE, ACCESSOR, ADJUSTER);
+		superTypes("java.time.MonthDay", SERIALIZABLE, COMPARABLE, ACCESSOR, ADJUSTER);
+		superTypes("java.time.OffsetDateTime", SERIALIZABLE, COMPARABLE, TEMPORAL, ACCESSOR, ADJUSTER);
+		superTypes("java.time.OffsetTime", SERIALIZABLE, COMPARABLE, TEMPORAL, ACCESSOR, ADJUSTER);
+		superTypes("java.time.Period", SERIALIZABLE, "java.time.chrono.ChronoPeriod", "java.time.temporal.TemporalAmount");
+		superTypes("java.time.Year", SERIALIZABLE, COMPARABLE, TEMPORAL, ACCESSOR, ADJUSTER);
+		superTypes("java.time.YearMonth", SERIALIZABLE, COMPARABLE, TEMPORAL, ACCESSOR, ADJUSTER);
+		superTypes("java.time.ZoneOffset", SERIALIZABLE, COMPARABLE, "java.time.ZoneId", ACCESSOR, ADJUSTER);
+		superTypes("java.time.ZonedDateTime", SERIALIZABLE, COMPARABLE, "java.time.chrono.ChronoZonedDateTime", TEMPORAL, ACCESSOR);
+		superTypes("java.util.Currency", SERIALIZABLE);
+		superTypes("java.util.Date", SERIALIZABLE, CLONEABLE, COMPARABLE);
+		superTypes("java.util.UUID", SERIALIZABLE, COMPARABLE);
+	}
+
+	private BuiltInGenerators() {
+	}
+
+	private static void superTypes(String typeName, String... superTypeNames) {
+		SUPER_TYPES.put(typeName, new HashSet<>(Arrays.asList(superTypeNames)));
+	}
+
+	/**
+	 * Returns the names of the public super types of the given built-in type (empty if none or not a built-in type)
+	 * @param typeName
+	 * @return
+	 */
+	static Set<String> superTypesOf(String typeName) {
+		return SUPER_TYPES.getOrDefault(typeName, Collections.emptySet());
+	}
+
+	/**
+	 * Registration callback : registers a generator (created on first use) for the given type names
+	 */
+	interface Registration {
+		void register(Supplier<? extends ValueGenerator> factory, String... typeNames);
+	}
+
+	/**
+	 * Registers all the built-in generators <br>
+	 * The types are referenced by name so that a group (and its types) is loaded only when needed
+	 * @param registration
+	 */
+	static void registerAll(Registration registration) {
+		registration.register(() -> new LangGenerator(),
+				"java.lang.String", "java.lang.Boolean", "boolean", "java.lang.Character", "char",
+				"java.lang.Byte", "byte", "java.lang.Short", "short", "java.lang.Integer", "int",
+				"java.lang.Long", "long", "java.lang.Float", "float", "java.lang.Double", "double");
+		registration.register(() -> new LooseTypeGenerator(),
+				"java.lang.Object", "java.io.Serializable", "java.lang.Comparable", "java.lang.CharSequence",
+				"java.lang.Number");
+		registration.register(() -> new EnumGenerator(),
+				"java.lang.Enum");
+		registration.register(() -> new MathGenerator(),
+				"java.math.BigInteger", "java.math.BigDecimal");
+		registration.register(() -> new TimeGenerator(),
+				"java.time.LocalDate", "java.time.LocalDateTime", "java.time.LocalTime",
+				"java.time.ZonedDateTime", "java.time.OffsetDateTime", "java.time.OffsetTime",
+				"java.time.Instant", "java.time.Duration", "java.time.Period", "java.time.Year",
+				"java.time.YearMonth", "java.time.Month", "java.time.MonthDay", "java.time.DayOfWeek",
+				"java.time.ZoneOffset");
+		registration.register(() -> new UtilGenerator(),
+				"java.util.UUID", "java.util.Currency", "java.util.Date");
+		registration.register(() -> new TextGenerator(),
+				"java.text.SimpleDateFormat", "java.text.MessageFormat");
+		registration.register(() -> new NetGenerator(),
+				"java.net.URL", "java.net.URI");
+		registration.register(() -> new SqlGenerator(),
+				"java.sql.Date", "java.sql.Time", "java.sql.Timestamp");
+	}
+
+	/**
+	 * Standard types (java.lang.*) and primitive types
+	 */
+	static final class LangGenerator extends MappedValueGenerator {
+		LangGenerator() {
+			registerImmutable(String.class, () -> "Z");
+			registerImmutable(Boolean.class, () -> Boolean.TRUE);
+			registerImmutable(boolean.class, () -> Boolean.TRUE);
+			registerImmutable(Character.class, () -> Character.valueOf('a'));
+			registerImmutable(char.class, () -> Character.valueOf('a'));
+			// Standard numbers
+			registerImmutable(Byte.class, () -> Byte.valueOf((byte)4));
+			registerImmutable(byte.class, () -> Byte.valueOf((byte)4));
+			registerImmutable(Short.class, () -> Short.valueOf((short)12));
+			registerImmutable(short.class, () -> Short.valueOf((short)12));
+			registerImmutable(Integer.class, () -> Integer.valueOf(12345));
+			registerImmutable(int.class, () -> Integer.valueOf(12345));
+			registerImmutable(Long.class, () -> Long.valueOf(123456789L));
+			registerImmutable(long.class, () -> Long.valueOf(123456789L));
+			registerImmutable(Float.class, () -> Float.valueOf(123.45F));
+			registerImmutable(float.class, () -> Float.valueOf(123.45F));
+			registerImmutable(Double.class, () -> Double.valueOf(12345.6789));
+			registerImmutable(double.class, () -> Double.valueOf(12345.6789));
+		}
+	}
+
+	/**
+	 * Loosely-typed parameters (super types of the standard types)
+	 */
+	static final class LooseTypeGenerator extends MappedValueGenerator {
+		LooseTypeGenerator() {
+			registerImmutable(Object.class, Object::new);
+			registerImmutable(Serializable.class, () -> "Z");
+			registerImmutable(Comparable.class, () -> "Z");
+			registerImmutable(CharSequence.class, () -> "Z");
+			registerImmutable(Number.class, () -> Integer.valueOf(12345));
+		}
+	}
+
+	/**
+	 * All the enumerations without specific generator (first constant of the enum)
+	 */
+	static final class EnumGenerator implements ValueGenerator {
+
+		@Override
+		public Set<Class<?>> supportedTypes() {
+			return Collections.singleton(Enum.class);
+		}
+
+		@Override
+		public boolean canGenerate(Class<?> type) {
+			return type.isEnum();
+		}
+
+		@Override
+		public boolean isImmutable(Class<?> type) {
+			return true;
+		}
+
+		@Override
+		public Object generate(Class<?> type) {
+			Object[] constants = type.getEnumConstants();
+			return constants != null && constants.length > 0 ? constants[0] : null;
+		}
+	}
+
+	/**
+	 * Math types (java.math.*)
+	 */
+	static final class MathGenerator extends MappedValueGenerator {
+		MathGenerator() {
+			registerImmutable(BigInteger.class, () -> new BigInteger("12345678"));
+			registerImmutable(BigDecimal.class, () -> new BigDecimal("123456.789"));
+		}
+	}
+
+	/**
+	 * Date-Time types (java.time.*) : current date/time from the context clock
+	 */
+	static final class TimeGenerator extends MappedValueGenerator {
+		TimeGenerator() {
+			register(LocalDate.class, context -> LocalDate.now(context.getClock()), true);
+			register(LocalDateTime.class, context -> LocalDateTime.now(context.getClock()), true);
+			register(LocalTime.class, context -> LocalTime.now(context.getClock()), true);
+			register(ZonedDateTime.class, context -> ZonedDateTime.now(context.getClock()), true);
+			register(OffsetDateTime.class, context -> OffsetDateTime.now(context.getClock()), true);
+			register(OffsetTime.class, context -> OffsetTime.now(context.getClock()), true);
+			register(Instant.class, context -> Instant.now(context.getClock()), true);
+			registerImmutable(Duration.class, () -> Duration.ofMinutes(45));
+			registerImmutable(Period.class, () -> Period.ofDays(12)); // a period of 12 days
+			register(Year.class, context -> Year.now(context.getClock()), true); // a year
+			register(YearMonth.class, context -> YearMonth.now(context.getClock()), true); // combination of year + month
+			registerImmutable(Month.class, () -> Month.AUGUST); // a month of the year (from January to December)
+			register(MonthDay.class, context -> MonthDay.now(context.getClock()), true); // combination of month + day
+			registerImmutable(DayOfWeek.class, () -> DayOfWeek.SATURDAY); // a day of the week (from Monday to Sunday)
+			registerImmutable(ZoneOffset.class, () -> ZoneOffset.UTC);
+		}
+	}
+
+	/**
+	 * Util types (java.util.*)
+	 */
+	static final class UtilGenerator extends MappedValueGenerator {
+		UtilGenerator() {
+			register(UUID.class, ValueContext::randomUUID, true);
+			registerImmutable(Currency.class, () -> Currency.getInstance("EUR"));
+			// old type (deprecated but still in use sometimes)
+			register(java.util.Date.class, context -> new java.util.Date(context.getClock().millis()), false);
+		}
+	}
+
+	/**
+	 * Text types (java.text.*)
+	 */
+	static final class TextGenerator extends MappedValueGenerator {
+		TextGenerator() {
+			register(SimpleDateFormat.class, SimpleDateFormat::new);
+			register(MessageFormat.class, () -> new MessageFormat("{0} days, {1} hours, {2} minutes)"));
+		}
+	}
+
+	/**
+	 * Network types (java.net.*)
+	 */
+	static final class NetGenerator extends MappedValueGenerator {
+		NetGenerator() {
+			registerImmutable(URL.class, () -> {
+				try {
+					return new URL("http://www.example.com/");
+				} catch (MalformedURLException e) {
+					return null;
+				}
+			});
+			registerImmutable(URI.class, () -> URI.create("http://www.example.com/"));
+		}
+	}
+
+	/**
+	 * SQL types (java.sql.*)
+	 */
+	static final class SqlGenerator extends MappedValueGenerator {
+		SqlGenerator() {
+			register(java.sql.Date.class, () -> new java.sql.Date(2000000000L));
+			register(java.sql.Time.class, () -> new java.sql.Time(3000000000L));
+			register(java.sql.Timestamp.class, () -> new java.sql.Timestamp(4000000000L));
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Imbalance;
+import org.junit.jupiter.api.Test;
+
+public class BuiltInGeneratorsTest {
+
+	/**
+	 * POJO with a SQL type
+	 */
+	public static class Event {
+		private java.sql.Timestamp timestamp;
+
+		public java.sql.Timestamp getTimestamp() {
+			return timestamp;
+		}
+		public void setTimestamp(java.sql.Timestamp timestamp) {
+			this.timestamp = timestamp;
+		}
+	}
+
+	/**
+	 * POJO with interface types (no built-in sub type)
+	 */
+	public static class Basket {
+		private List<String> items;
+		private Collection<Integer> counts;
+		private Map<String, String> labels;
+		private Set<Long> ids;
+		private Iterable<String> tags;
+
+		public List<String> getItems() {
+			return items;
+		}
+		public void setItems(List<String> items) {
+			this.items = items;
+		}
+		public Collection<Integer> getCounts() {
+			return counts;
+		}
+		public void setCounts(Collection<Integer> counts) {
+			this.counts = counts;
+		}
+		public Map<String, String> getLabels() {
+			return labels;
+		}
+		public void setLabels(Map<String, String> labels) {
+			this.labels = labels;
+		}
+		public Set<Long> getIds() {
+			return ids;
+		}
+		public void setIds(Set<Long> ids) {
+			this.ids = ids;
+		}
+		public Iterable<String> getTags() {
+			return tags;
+		}
+		public void setTags(Iterable<String> tags) {
+			this.tags = tags;
+		}
+	}
+
+	/**
+	 * Tests the classes given as arguments in a new JVM
+	 */
+	public static class TestMain {
+		public static void main(String[] args) throws ClassNotFoundException {
+			PojoUnitTester tester = new PojoUnitTester();
+			for (String className : args) {
+				tester.testAll(Class.forName(className));
+			}
+		}
+	}
+
+	/**
+	 * Tests the given classes in a new JVM and returns the names of the loaded classes
+	 */
+	private static List<String> loadedClasses(Class<?>... classes) throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		command.add("-Xlog:class+load=info");
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(TestMain.class.getName());
+		for (Class<?> clazz : classes) {
+			command.add(clazz.getName());
+		}
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		List<String> loaded = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				// eg "[0.015s][info][class,load] java.sql.Date source: jrt:/java.sql"
+				int start = line.indexOf("] ");
+				if ( line.contains("[class,load]") && start >= 0 ) {
+					loaded.add(line.substring(start + 2).split(" ")[0]);
+				}
+			}
+		}
+		assertEquals(0, process.waitFor());
+		return loaded;
+	}
+
+	@Test
+	public void testGroupsLoadedLazily() throws Exception {
+		// no super type resolution for 'Basket' : no built-in sub type of 'List', 'Collection', 'Map', etc
+		List<String> loaded = loadedClasses(Employee.class, Imbalance.class, Basket.class);
+		assertTrue(loaded.contains(Basket.class.getName()), "no class loaded");
+		for (String className : loaded) {
+			assertFalse(className.startsWith("java.sql."), className);
+			assertFalse(className.startsWith("java.text.") && className.endsWith("Format"), className); // text group
+		}
+		assertFalse(loaded.contains(BuiltInGenerators.SqlGenerator.class.getName()));
+		assertFalse(loaded.contains(BuiltInGenerators.NetGenerator.class.getName()));
+		assertFalse(loaded.contains(BuiltInGenerators.TextGenerator.class.getName()));
+		assertTrue(loaded.contains(BuiltInGenerators.TimeGenerator.class.getName()));
+	}
+
+	@Test
+	public void testGroupLoadedWhenUsed() throws Exception {
+		List<String> loaded = loadedClasses(Event.class);
+		assertTrue(loaded.contains("java.sql.Timestamp"));
+		assertTrue(loaded.contains(BuiltInGenerators.SqlGenerator.class.getName()));
+	}
+
+	private static Set<String> publicSuperTypes(Class<?> type) {
+		Set<String> superTypes = new HashSet<>();
+		Deque<Class<?>> queue = new ArrayDeque<>();
+		queue.add(type);
+		while ( ! queue.isEmpty() ) {
+			Class<?> current = queue.poll();
+			if ( current.getSuperclass() != null ) {
+				queue.add(current.getSuperclass());
+			}
+			queue.addAll(Arrays.asList(current.getInterfaces()));
+			if ( current != type && current != Object.class && Modifier.isPublic(current.getModifiers()) ) {
+				superTypes.add(current.getName());
+			}
+		}
+		return superTypes;
+	}
+
+	@Test
+	public void testSuperTypesIndex() throws ClassNotFoundException {
+		List<String> typeNames = new ArrayList<>();
+		BuiltInGenerators.registerAll((factory, names) -> typeNames.addAll(Arrays.asList(names)));
+		for (String typeName : typeNames) {
+			if ( typeName.indexOf('.') > 0 ) { // not a primitive type
+				assertEquals(publicSuperTypes(Class.forName(typeName)), BuiltInGenerators.superTypesOf(typeName), typeName);
+			}
+		}
+	}
+
+	@Test
+	public void testSqlValues() {
+		ValueGeneratorRegistry registry = ValueGeneratorRegistry.getDefault();
+		for (Class<?> type : new Class<?>[] { java.sql.Date.class, java.sql.Time.class, java.sql.Timestamp.class }) {
+			assertEquals(type, registry.generatorFor(type).generate(type).getClass());
+		}
+	}
+}
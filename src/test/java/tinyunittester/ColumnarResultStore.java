@@ -0,0 +1,287 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact in-memory store of the property results (usable as a listener) <br>
+ * The class and property names are interned (integer ids) and each result is stored in primitive arrays
+ * (class id, property id, outcome, duration) : about 17 bytes for each property result <br>
+ * The failure details (values, messages, exceptions) are not kept <br>
+ * All the methods are synchronized (the listener can be called by several threads)
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class ColumnarResultStore implements PojoTestListener {
+
+	private static final int DEFAULT_CAPACITY = 1024;
+	private static final int NO_PROPERTY = -1;
+
+	/**
+	 * Outcome of a property test
+	 */
+	public enum Outcome {
+		/**
+		 * Same value returned by the getter
+		 */
+		VERIFIED,
+		/**
+		 * Different value returned by the getter
+		 */
+		DIFFERENT_VALUE,
+		/**
+		 * Exception thrown by the setter or the getter
+		 */
+		ACCESSOR_ERROR,
+		/**
+		 * Failure of the class itself (eg no default constructor)
+		 */
+		CLASS_ERROR
+	}
+
+	private static final Outcome[] OUTCOMES = Outcome.values();
+
+	/**
+	 * Duration of a single property test (see 'slowestProperties')
+	 */
+	public static final class PropertyTiming {
+		private final Class<?> testedClass;
+		private final String propertyName;
+		private final Outcome outcome;
+		private final long nanos;
+
+		private PropertyTiming(Class<?> testedClass, String propertyName, Outcome outcome, long nanos) {
+			this.testedClass = testedClass;
+			this.propertyName = propertyName;
+			this.outcome = outcome;
+			this.nanos = nanos;
+		}
+
+		public Class<?> getTestedClass() {
+			return testedClass;
+		}
+
+		public String getPropertyName() {
+			return propertyName;
+		}
+
+		public Outcome getOutcome() {
+			return outcome;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		@Override
+		public String toString() {
+			return testedClass.getSimpleName() + "." + propertyName + " : " + outcome + " (" + nanos + " ns)";
+		}
+	}
+
+	// interned names
+	private final List<Class<?>> classes = new ArrayList<>();
+	private final Map<Class<?>, Integer> classIds = new HashMap<>();
+	private final List<String> propertyNames = new ArrayList<>();
+	private final Map<String, Integer> propertyIds = new HashMap<>();
+
+	// columns (1 row for each property result)
+	private int size = 0;
+	private int[] classColumn;
+	private int[] propertyColumn;
+	private byte[] outcomeColumn;
+	private long[] nanosColumn;
+
+	/**
+	 * Constructor with default initial capacity
+	 */
+	public ColumnarResultStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor with initial capacity (number of property results)
+	 * @param initialCapacity
+	 */
+	public ColumnarResultStore(int initialCapacity) {
+		super();
+		int capacity = Math.max(16, initialCapacity);
+		this.classColumn = new int[capacity];
+		this.propertyColumn = new int[capacity];
+		this.outcomeColumn = new byte[capacity];
+		this.nanosColumn = new long[capacity];
+	}
+
+	@Override
+	public void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+		record(testedClass, property.getName(), Outcome.VERIFIED, nanos);
+	}
+
+	@Override
+	public void propertyFailed(Class<?> testedClass, PropertyAccessor property, PojoFailure failure, long nanos) {
+		if ( property == null ) {
+			record(testedClass, null, Outcome.CLASS_ERROR, nanos);
+		}
+		else {
+			record(testedClass, property.getName(),
+					failure.getCause() != null ? Outcome.ACCESSOR_ERROR : Outcome.DIFFERENT_VALUE, nanos);
+		}
+	}
+
+	private synchronized void record(Class<?> testedClass, String propertyName, Outcome outcome, long nanos) {
+		if ( size == classColumn.length ) {
+			grow();
+		}
+		classColumn[size] = internClass(testedClass);
+		propertyColumn[size] = propertyName != null ? internProperty(propertyName) : NO_PROPERTY;
+		outcomeColumn[size] = (byte) outcome.ordinal();
+		nanosColumn[size] = nanos;
+		size++;
+	}
+
+	private void grow() {
+		int capacity = classColumn.length + ( classColumn.length >> 1 );
+		classColumn = Arrays.copyOf(classColumn, capacity);
+		propertyColumn = Arrays.copyOf(propertyColumn, capacity);
+		outcomeColumn = Arrays.copyOf(outcomeColumn, capacity);
+		nanosColumn = Arrays.copyOf(nanosColumn, capacity);
+	}
+
+	private int internClass(Class<?> clazz) {
+		Integer id = classIds.get(clazz);
+		if ( id == null ) {
+			id = classes.size();
+			classes.add(clazz);
+			classIds.put(clazz, id);
+		}
+		return id;
+	}
+
+	private int internProperty(String name) {
+		Integer id = propertyIds.get(name);
+		if ( id == null ) {
+			id = propertyNames.size();
+			propertyNames.add(name);
+			propertyIds.put(name, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the number of property results
+	 * @return
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of results with the given outcome
+	 * @param outcome
+	 * @return
+	 */
+	public synchronized int count(Outcome outcome) {
+		byte code = (byte) outcome.ordinal();
+		int count = 0;
+		for (int i = 0 ; i < size ; i++) {
+			if ( outcomeColumn[i] == code ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the names of the invalid properties for each class with at least one failure <br>
+	 * (a null name for a failure of the class itself)
+	 * @return
+	 */
+	public synchronized Map<Class<?>, List<String>> failuresByClass() {
+		Map<Class<?>, List<String>> map = new LinkedHashMap<>();
+		for (int i = 0 ; i < size ; i++) {
+			if ( outcomeColumn[i] != Outcome.VERIFIED.ordinal() ) {
+				map.computeIfAbsent(classes.get(classColumn[i]), c -> new ArrayList<>()).add(propertyName(i));
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * Returns the names of the invalid properties for the given class (empty if none)
+	 * @param testedClass
+	 * @return
+	 */
+	public synchronized List<String> failures(Class<?> testedClass) {
+		Integer classId = classIds.get(testedClass);
+		if ( classId == null ) {
+			return Collections.emptyList();
+		}
+		List<String> list = new ArrayList<>();
+		for (int i = 0 ; i < size ; i++) {
+			if ( classColumn[i] == classId && outcomeColumn[i] != Outcome.VERIFIED.ordinal() ) {
+				list.add(propertyName(i));
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * Returns the slowest property tests (slowest first)
+	 * @param count max number of results
+	 * @return
+	 */
+	public synchronized List<PropertyTiming> slowestProperties(int count) {
+		int n = Math.min(count, size);
+		if ( n <= 0 ) {
+			return Collections.emptyList();
+		}
+		// top 'n' indexes sorted by decreasing duration (insertion only if slower than the last one)
+		int[] top = new int[n];
+		int topSize = 0;
+		for (int i = 0 ; i < size ; i++) {
+			long nanos = nanosColumn[i];
+			if ( topSize == n && nanos <= nanosColumn[top[n - 1]] ) {
+				continue;
+			}
+			int j = topSize < n ? topSize++ : n - 1;
+			while ( j > 0 && nanosColumn[top[j - 1]] < nanos ) {
+				top[j] = top[j - 1];
+				j--;
+			}
+			top[j] = i;
+		}
+		List<PropertyTiming> list = new ArrayList<>(topSize);
+		for (int k = 0 ; k < topSize ; k++) {
+			int i = top[k];
+			list.add(new PropertyTiming(classes.get(classColumn[i]), propertyName(i), OUTCOMES[outcomeColumn[i]], nanosColumn[i]));
+		}
+		return list;
+	}
+
+	private String propertyName(int row) {
+		int id = propertyColumn[row];
+		return id != NO_PROPERTY ? propertyNames.get(id) : null;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return size + " result(s), " + classes.size() + " class(es), " + propertyNames.size() + " property name(s)";
+	}
+}
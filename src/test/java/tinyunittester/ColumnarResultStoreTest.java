@@ -0,0 +1,140 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Imbalance;
+import org.junit.jupiter.api.Test;
+
+import tinyunittester.ColumnarResultStore.Outcome;
+import tinyunittester.ColumnarResultStore.PropertyTiming;
+import tinyunittester.corpus.PojoCorpus;
+import tinyunittester.corpus.PojoCorpusGenerator;
+
+public class ColumnarResultStoreTest {
+
+	private static final List<PropertyAccessor> EMPLOYEE = AccessorPlan.of(Employee.class).getProperties();
+	private static final List<PropertyAccessor> IMBALANCE = AccessorPlan.of(Imbalance.class).getProperties();
+
+	private static PojoFailure differentValue(Class<?> clazz, PropertyAccessor property) {
+		return new PojoFailure(clazz, property, "a", "b", null, null);
+	}
+
+	private static PojoFailure accessorError(Class<?> clazz, PropertyAccessor property) {
+		return new PojoFailure(clazz, property, "a", null, property.getSetter(), new IllegalStateException());
+	}
+
+	@Test
+	public void testOutcomes() {
+		// small initial capacity => columns grown several times
+		ColumnarResultStore store = new ColumnarResultStore(1);
+		for (int i = 0 ; i < 100 ; i++) {
+			store.propertyVerified(Employee.class, EMPLOYEE.get(i % EMPLOYEE.size()), i);
+		}
+		store.propertyFailed(Employee.class, EMPLOYEE.get(1), differentValue(Employee.class, EMPLOYEE.get(1)), 1L);
+		store.propertyFailed(Imbalance.class, IMBALANCE.get(0), accessorError(Imbalance.class, IMBALANCE.get(0)), 1L);
+		store.propertyFailed(Imbalance.class, null, new PojoFailure(Imbalance.class, new IllegalStateException()), 0L);
+		assertEquals(103, store.size());
+		assertEquals(100, store.count(Outcome.VERIFIED));
+		assertEquals(1, store.count(Outcome.DIFFERENT_VALUE));
+		assertEquals(1, store.count(Outcome.ACCESSOR_ERROR));
+		assertEquals(1, store.count(Outcome.CLASS_ERROR));
+		// null name for a failure of the class itself
+		assertEquals(Collections.singletonList(EMPLOYEE.get(1).getName()), store.failures(Employee.class));
+		assertEquals(Arrays.asList(IMBALANCE.get(0).getName(), null), store.failures(Imbalance.class));
+		assertEquals(Collections.emptyList(), store.failures(String.class));
+		Map<Class<?>, List<String>> expected = new LinkedHashMap<>();
+		expected.put(Employee.class, store.failures(Employee.class));
+		expected.put(Imbalance.class, store.failures(Imbalance.class));
+		assertEquals(expected, store.failuresByClass());
+		// interned names
+		Set<String> names = new HashSet<>();
+		for (PropertyAccessor property : EMPLOYEE) {
+			names.add(property.getName());
+		}
+		names.add(IMBALANCE.get(0).getName());
+		assertEquals("103 result(s), 2 class(es), " + names.size() + " property name(s)", store.toString());
+	}
+
+	@Test
+	public void testSlowestProperties() {
+		ColumnarResultStore store = new ColumnarResultStore();
+		List<Long> durations = new ArrayList<>();
+		SplittableRandom random = new SplittableRandom(1);
+		for (int i = 0 ; i < 5000 ; i++) {
+			long nanos = random.nextLong(1_000_000L);
+			durations.add(nanos);
+			store.propertyVerified(Employee.class, EMPLOYEE.get(i % EMPLOYEE.size()), nanos);
+		}
+		durations.sort(Collections.reverseOrder());
+		List<PropertyTiming> slowest = store.slowestProperties(20);
+		assertEquals(20, slowest.size());
+		for (int i = 0 ; i < slowest.size() ; i++) {
+			assertEquals(durations.get(i).longValue(), slowest.get(i).getNanos());
+			assertEquals(Outcome.VERIFIED, slowest.get(i).getOutcome());
+		}
+		// limited by the number of results
+		assertEquals(5000, store.slowestProperties(10_000).size());
+		assertTrue(store.slowestProperties(0).isEmpty());
+		assertTrue(new ColumnarResultStore().slowestProperties(10).isEmpty());
+	}
+
+	@Test
+	public void testConcurrentRecords() throws InterruptedException {
+		ColumnarResultStore store = new ColumnarResultStore(16);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0 ; t < 4 ; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0 ; i < 10_000 ; i++) {
+					store.propertyVerified(Employee.class, EMPLOYEE.get(i % EMPLOYEE.size()), i);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(40_000, store.size());
+		assertEquals(40_000, store.count(Outcome.VERIFIED));
+	}
+
+	@Test
+	public void testColumnarResultStore() {
+		PojoCorpus corpus = PojoCorpusGenerator.builder()
+				.classCount(100).propertyCount(20).bugRate(0.2).build().generate();
+		ColumnarResultStore store = new ColumnarResultStore();
+		PojoUnitTester.builder().listener(store).failureMode(FailureMode.COLLECT_ALL).build().testAll(corpus.getClasses());
+		assertEquals(100 * 20, store.size());
+		// the injected bugs (class name -> property name)
+		Map<String, String> failures = new HashMap<>();
+		for (Map.Entry<Class<?>, List<String>> entry : store.failuresByClass().entrySet()) {
+			assertEquals(1, entry.getValue().size());
+			failures.put(entry.getKey().getName(), entry.getValue().get(0));
+		}
+		assertEquals(corpus.getBuggyProperties(), failures);
+	}
+}
@@ -0,0 +1,71 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listener forwarding all the events to several listeners (in registration order)
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class CompositeTestListener implements PojoTestListener {
+
+	private final PojoTestListener[] listeners;
+
+	CompositeTestListener(List<PojoTestListener> listeners) {
+		super();
+		this.listeners = new ArrayList<>(listeners).toArray(new PojoTestListener[0]);
+	}
+
+	@Override
+	public PojoTestListener runStarted() {
+		List<PojoTestListener> runListeners = new ArrayList<>(listeners.length);
+		boolean same = true;
+		for (PojoTestListener listener : listeners) {
+			PojoTestListener runListener = listener.runStarted();
+			runListeners.add(runListener);
+			same &= runListener == listener;
+		}
+		return same ? this : new CompositeTestListener(runListeners);
+	}
+
+	@Override
+	public void classStarted(Class<?> testedClass) {
+		for (PojoTestListener listener : listeners) {
+			listener.classStarted(testedClass);
+		}
+	}
+
+	@Override
+	public void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+		for (PojoTestListener listener : listeners) {
+			listener.propertyVerified(testedClass, property, nanos);
+		}
+	}
+
+	@Override
+	public void propertyFailed(Class<?> testedClass, PropertyAccessor property, PojoFailure failure, long nanos) {
+		for (PojoTestListener listener : listeners) {
+			listener.propertyFailed(testedClass, property, failure, nanos);
+		}
+	}
+
+	@Override
+	public void classFinished(Class<?> testedClass, PojoTestResult result, long nanos) {
+		for (PojoTestListener listener : listeners) {
+			listener.classFinished(testedClass, result, nanos);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.io.PrintStream;
+
+/**
+ * Log sink writing to the console ('System.out' by default) <br>
+ * The messages are buffered for each thread and written by blocks (at the end of each class, at the end
+ * of each call to the tester or when the buffer is full), so the parallel workers don't wait for each other on each line
+ *
+ * @author Laurent Guerin
+ *
+ */
+public class ConsoleLogSink implements LogSink {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final PrintStream out;
+	private final String prefix;
+	private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(BUFFER_SIZE));
+
+	/**
+	 * Default constructor : 'System.out' with 'PojoTester: ' prefix
+	 */
+	public ConsoleLogSink() {
+		this(System.out, "PojoTester: ");
+	}
+
+	/**
+	 * Constructor
+	 * @param out
+	 * @param prefix prefix of each line
+	 */
+	public ConsoleLogSink(PrintStream out, String prefix) {
+		super();
+		this.out = out;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public void write(LogLevel level, String message) {
+		StringBuilder buffer = buffers.get();
+		buffer.append(prefix).append(message).append(System.lineSeparator());
+		if ( buffer.length() >= BUFFER_SIZE ) {
+			flush();
+		}
+	}
+
+	@Override
+	public void flush() {
+		StringBuilder buffer = buffers.get();
+		if ( buffer.length() > 0 ) {
+			out.print(buffer);
+			out.flush();
+			buffer.setLength(0);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+/**
+ * Execution mode used to test several classes
+ *
+ * @author Laurent Guerin
+ *
+ */
+public enum ExecutionMode {
+
+	/**
+	 * Fork/Join pool (platform threads, work stealing)
+	 */
+	FORK_JOIN,
+
+	/**
+	 * 1 virtual thread for each task (for accessors that can block) <br>
+	 * Falls back to 'FORK_JOIN' if the runtime doesn't support virtual threads (before Java 21)
+	 */
+	VIRTUAL_THREADS
+}
@@ -0,0 +1,32 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+/**
+ * Behavior of the tester when a property is invalid
+ *
+ * @author Laurent Guerin
+ *
+ */
+public enum FailureMode {
+
+	/**
+	 * The test of a class stops at the first invalid property
+	 */
+	FAIL_FAST,
+
+	/**
+	 * All the properties are tested and all the failures are collected
+	 * (reported at the end of the test of each class)
+	 */
+	COLLECT_ALL
+}
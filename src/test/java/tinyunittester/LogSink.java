@@ -0,0 +1,35 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+/**
+ * Destination of the log messages (console, file, etc) <br>
+ * A sink can be called by several threads at the same time
+ *
+ * @author Laurent Guerin
+ *
+ */
+public interface LogSink {
+
+	/**
+	 * Writes a message (already formatted)
+	 * @param level
+	 * @param message
+	 */
+	void write(LogLevel level, String message);
+
+	/**
+	 * Flushes the messages written by the current thread (called at the end of each class)
+	 */
+	default void flush() {
+	}
+}
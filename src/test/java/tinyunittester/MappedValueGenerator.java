@@ -0,0 +1,87 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Base class for a generator handling a group of types (1 value supplier for each type)
+ *
+ * @author Laurent Guerin
+ *
+ */
+public abstract class MappedValueGenerator implements ValueGenerator {
+
+	private final Map<Class<?>, Function<ValueContext, ?>> suppliers = new HashMap<>();
+	private final Set<Class<?>> immutableTypes = new HashSet<>();
+
+	/**
+	 * Registers the value supplier for the given type (mutable values)
+	 * @param type
+	 * @param supplier
+	 */
+	protected final void register(Class<?> type, Supplier<?> supplier) {
+		register(type, context -> supplier.get(), false);
+	}
+
+	/**
+	 * Registers the value supplier for the given type (immutable values)
+	 * @param type
+	 * @param supplier
+	 */
+	protected final void registerImmutable(Class<?> type, Supplier<?> supplier) {
+		register(type, context -> supplier.get(), true);
+	}
+
+	/**
+	 * Registers the value supplier for the given type (supplier using the context)
+	 * @param type
+	 * @param supplier
+	 * @param immutable
+	 */
+	protected final void register(Class<?> type, Function<ValueContext, ?> supplier, boolean immutable) {
+		suppliers.put(type, supplier);
+		if ( immutable ) {
+			immutableTypes.add(type);
+		}
+		else {
+			immutableTypes.remove(type);
+		}
+	}
+
+	@Override
+	public Set<Class<?>> supportedTypes() {
+		return Collections.unmodifiableSet(suppliers.keySet());
+	}
+
+	@Override
+	public boolean isImmutable(Class<?> type) {
+		return immutableTypes.contains(type);
+	}
+
+	@Override
+	public Object generate(Class<?> type) {
+		return generate(type, ValueContext.getDefault());
+	}
+
+	@Override
+	public Object generate(Class<?> type, ValueContext context) {
+		Function<ValueContext, ?> supplier = suppliers.get(type);
+		return supplier != null ? supplier.apply(context) : null;
+	}
+}
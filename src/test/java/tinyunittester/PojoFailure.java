@@ -0,0 +1,134 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.lang.reflect.Method;
+
+/**
+ * A failure detected when testing a class <br>
+ * The property, the expected value and the actual value are known only for a property failure
+ * (they are null for a failure of the class itself, eg no default constructor) <br>
+ * The message is formatted only when it is read
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PojoFailure {
+
+	private final Class<?> testedClass;
+	private final PropertyAccessor property;
+	private final Object expected;
+	private final Object actual;
+	private final Method failedMethod;
+	private final Throwable cause;
+	private String message;
+
+	/**
+	 * Failure of the class itself
+	 * @param testedClass
+	 * @param cause
+	 */
+	PojoFailure(Class<?> testedClass, Throwable cause) {
+		this(testedClass, null, null, null, null, cause);
+	}
+
+	/**
+	 * Failure of a property
+	 * @param testedClass
+	 * @param property
+	 * @param expected value given to the setter
+	 * @param actual value returned by the getter
+	 * @param failedMethod accessor that has thrown an exception (or null if different values)
+	 * @param cause exception thrown by the accessor (or null if different values)
+	 */
+	PojoFailure(Class<?> testedClass, PropertyAccessor property, Object expected, Object actual, Method failedMethod, Throwable cause) {
+		super();
+		this.testedClass = testedClass;
+		this.property = property;
+		this.expected = expected;
+		this.actual = actual;
+		this.failedMethod = failedMethod;
+		this.cause = cause;
+	}
+
+	public Class<?> getTestedClass() {
+		return testedClass;
+	}
+
+	/**
+	 * Returns the name of the invalid property or null if the failure is not related to a property
+	 * @return
+	 */
+	public String getPropertyName() {
+		return property != null ? property.getName() : null;
+	}
+
+	/**
+	 * Returns the value given to the setter (or null)
+	 * @return
+	 */
+	public Object getExpected() {
+		return expected;
+	}
+
+	/**
+	 * Returns the value returned by the getter (or null)
+	 * @return
+	 */
+	public Object getActual() {
+		return actual;
+	}
+
+	/**
+	 * Returns the message (formatted on first call)
+	 * @return
+	 */
+	public String getMessage() {
+		if ( message == null ) {
+			message = formatMessage();
+		}
+		return message;
+	}
+
+	/**
+	 * Returns the exception at the origin of the failure or null if none (eg different values)
+	 * @return
+	 */
+	public Throwable getCause() {
+		return cause;
+	}
+
+	private String formatMessage() {
+		if ( property == null ) {
+			return cause != null ? cause.getMessage() : null;
+		}
+		else if ( failedMethod != null ) {
+			return ( failedMethod.equals(property.getSetter()) ? "Cannot set value (" : "Cannot get value (" )
+					+ cause.getClass().getSimpleName() + ") method '" + failedMethod.getName() + "'" ;
+		}
+		else {
+			return testedClass.getSimpleName() + " : "
+					+ property.getSetter().getName() + " : " + expected + " (" + typeName(expected) + ")"
+					+ " / "
+					+ property.getGetter().getName() + " : " + actual + " (" + typeName(actual) + ")" ;
+		}
+	}
+
+	private static String typeName(Object value) {
+		return value != null ? value.getClass().getSimpleName() : "null";
+	}
+
+	@Override
+	public String toString() {
+		return testedClass.getName() + " : " + getMessage();
+	}
+}
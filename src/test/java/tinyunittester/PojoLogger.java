@@ -0,0 +1,121 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.util.function.Supplier;
+
+/**
+ * Logging facade used by the tester <br>
+ * The messages are built only if the level is enabled : either with a 'Supplier' or with a pattern
+ * and fixed arguments ('{}' placeholders, no varargs array), so a disabled level allocates nothing <br>
+ * A 'Class' argument is written with its simple name
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PojoLogger {
+
+	private static final String PLACEHOLDER = "{}";
+
+	private final LogLevel level;
+	private final LogSink sink;
+
+	/**
+	 * Constructor
+	 * @param level minimum level of the messages to be logged
+	 * @param sink
+	 */
+	public PojoLogger(LogLevel level, LogSink sink) {
+		super();
+		this.level = level;
+		this.sink = sink;
+	}
+
+	public LogLevel getLevel() {
+		return level;
+	}
+
+	public boolean isEnabled(LogLevel messageLevel) {
+		return messageLevel != LogLevel.OFF && messageLevel.compareTo(level) >= 0;
+	}
+
+	public boolean isTraceEnabled() {
+		return level == LogLevel.TRACE;
+	}
+
+	public void trace(String pattern, Object arg1) {
+		if ( isTraceEnabled() ) {
+			sink.write(LogLevel.TRACE, format(pattern, arg1, null, null));
+		}
+	}
+
+	public void trace(String pattern, Object arg1, Object arg2) {
+		if ( isTraceEnabled() ) {
+			sink.write(LogLevel.TRACE, format(pattern, arg1, arg2, null));
+		}
+	}
+
+	public void trace(String pattern, Object arg1, Object arg2, Object arg3) {
+		if ( isTraceEnabled() ) {
+			sink.write(LogLevel.TRACE, format(pattern, arg1, arg2, arg3));
+		}
+	}
+
+	public void trace(Supplier<String> message) {
+		if ( isTraceEnabled() ) {
+			sink.write(LogLevel.TRACE, message.get());
+		}
+	}
+
+	public void info(String pattern, Object arg1) {
+		if ( isEnabled(LogLevel.INFO) ) {
+			sink.write(LogLevel.INFO, format(pattern, arg1, null, null));
+		}
+	}
+
+	public void info(String pattern, Object arg1, Object arg2) {
+		if ( isEnabled(LogLevel.INFO) ) {
+			sink.write(LogLevel.INFO, format(pattern, arg1, arg2, null));
+		}
+	}
+
+	public void info(Supplier<String> message) {
+		if ( isEnabled(LogLevel.INFO) ) {
+			sink.write(LogLevel.INFO, message.get());
+		}
+	}
+
+	/**
+	 * Flushes the messages of the current thread
+	 */
+	public void flush() {
+		if ( level != LogLevel.OFF ) {
+			sink.flush();
+		}
+	}
+
+	private static String format(String pattern, Object arg1, Object arg2, Object arg3) {
+		StringBuilder sb = new StringBuilder(pattern.length() + 32);
+		int start = 0;
+		int argIndex = 0;
+		int index;
+		while ( ( index = pattern.indexOf(PLACEHOLDER, start) ) >= 0 ) {
+			sb.append(pattern, start, index);
+			Object arg = argIndex == 0 ? arg1 : ( argIndex == 1 ? arg2 : arg3 );
+			sb.append(arg instanceof Class ? ((Class<?>) arg).getSimpleName() : String.valueOf(arg));
+			argIndex++;
+			start = index + PLACEHOLDER.length();
+		}
+		sb.append(pattern, start, pattern.length());
+		return sb.toString();
+	}
+}
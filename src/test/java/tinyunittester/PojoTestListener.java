@@ -0,0 +1,70 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+/**
+ * Listener notified during the tests (as soon as each event happens) <br>
+ * Usable to stream the results (report files, metrics, IDE, etc) without keeping them in memory <br>
+ * The classes (and the ranges of properties of a large class) are tested in parallel,
+ * so a listener can be called by several threads at the same time <br>
+ * A listener must not throw an exception
+ *
+ * @author Laurent Guerin
+ *
+ */
+public interface PojoTestListener {
+
+	/**
+	 * Called at the beginning of each run (each call of 'testAll', 'testPackage', etc) <br>
+	 * Returns the listener notified of the events of this run : a listener keeping a state for each class in progress
+	 * returns a new listener (with its own state) so that concurrent runs of the same class don't share it
+	 * @return the listener of the run (by default this listener)
+	 */
+	default PojoTestListener runStarted() {
+		return this;
+	}
+
+	/**
+	 * Called when the test of a class really starts (by the thread testing the class, not when the class is queued)
+	 * @param testedClass
+	 */
+	default void classStarted(Class<?> testedClass) {
+	}
+
+	/**
+	 * Called after each valid property
+	 * @param testedClass
+	 * @param property
+	 * @param nanos duration of the property test
+	 */
+	default void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+	}
+
+	/**
+	 * Called after each failure
+	 * @param testedClass
+	 * @param property the invalid property or null for a failure of the class itself (eg no default constructor)
+	 * @param failure
+	 * @param nanos duration of the property test
+	 */
+	default void propertyFailed(Class<?> testedClass, PropertyAccessor property, PojoFailure failure, long nanos) {
+	}
+
+	/**
+	 * Called after testing a class
+	 * @param testedClass
+	 * @param result result for this class only
+	 * @param nanos duration of the class test
+	 */
+	default void classFinished(Class<?> testedClass, PojoTestResult result, long nanos) {
+	}
+}
@@ -0,0 +1,142 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Imbalance;
+import org.demo.pojo.Invalid;
+import org.junit.jupiter.api.Test;
+
+import tinyunittester.corpus.PojoCorpus;
+import tinyunittester.corpus.PojoCorpusGenerator;
+
+public class PojoTestListenerTest {
+
+	/**
+	 * Listener counting the events and collecting the failures (class name -> property name)
+	 */
+	private static class CountingListener implements PojoTestListener {
+		final Map<Class<?>, AtomicInteger> started = new ConcurrentHashMap<>();
+		final Map<Class<?>, AtomicInteger> finished = new ConcurrentHashMap<>();
+		final AtomicInteger verified = new AtomicInteger();
+		final Map<String, String> failed = new ConcurrentHashMap<>();
+		@Override
+		public void classStarted(Class<?> testedClass) {
+			started.computeIfAbsent(testedClass, c -> new AtomicInteger()).incrementAndGet();
+		}
+		@Override
+		public void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+			verified.incrementAndGet();
+		}
+		@Override
+		public void propertyFailed(Class<?> testedClass, PropertyAccessor property, PojoFailure failure, long nanos) {
+			failed.put(testedClass.getName(), property.getName());
+		}
+		@Override
+		public void classFinished(Class<?> testedClass, PojoTestResult result, long nanos) {
+			finished.computeIfAbsent(testedClass, c -> new AtomicInteger()).incrementAndGet();
+		}
+	}
+
+	@Test
+	public void testListener() {
+		CountingListener listener = new CountingListener();
+		PojoTestResult result = PojoUnitTester.builder().listener(listener).failureMode(FailureMode.COLLECT_ALL).build()
+				.testAll(Employee.class, Imbalance.class, Invalid.class);
+		assertEquals(3, listener.started.size());
+		assertEquals(3, listener.finished.size());
+		assertEquals(Collections.singletonMap(Invalid.class.getName(), "Name"), listener.failed);
+		assertEquals(result.getPropertyCount() - 1, listener.verified.get());
+	}
+
+	@Test
+	public void testLargeClasses() {
+		// properties tested by ranges : 1 'started' and 1 'finished' event for each class
+		PojoCorpus corpus = PojoCorpusGenerator.builder()
+				.classCount(10).propertyCount(PojoTestTask.PROPERTIES_THRESHOLD * 3).bugRate(0.5).build().generate();
+		for (ExecutionMode mode : ExecutionMode.values()) {
+			CountingListener listener = new CountingListener();
+			PojoUnitTester.builder().executionMode(mode).listener(listener).failureMode(FailureMode.COLLECT_ALL).build()
+					.testAll(corpus.getClasses());
+			for (Class<?> clazz : corpus.getClasses()) {
+				assertEquals(1, listener.started.get(clazz).get());
+				assertEquals(1, listener.finished.get(clazz).get());
+			}
+			assertEquals(corpus.getBuggyProperties(), listener.failed);
+			assertEquals(10 * PojoTestTask.PROPERTIES_THRESHOLD * 3, listener.verified.get() + listener.failed.size());
+		}
+	}
+
+	@Test
+	public void testSeveralListeners() {
+		List<String> events = new ArrayList<>();
+		PojoUnitTester.builder()
+				.listener(new PojoTestListener() {
+					@Override
+					public void classStarted(Class<?> testedClass) {
+						events.add("1:" + testedClass.getSimpleName());
+					}
+				})
+				.listener(new PojoTestListener() {
+					@Override
+					public void classStarted(Class<?> testedClass) {
+						events.add("2:" + testedClass.getSimpleName());
+					}
+				})
+				.build().testAll(Employee.class);
+		// in registration order
+		assertEquals(Arrays.asList("1:Employee", "2:Employee"), events);
+	}
+
+	@Test
+	public void testListenerEventsOnTestingThread() {
+		for (ExecutionMode mode : ExecutionMode.values()) {
+			Map<Class<?>, Thread> startThreads = new ConcurrentHashMap<>();
+			List<String> errors = new CopyOnWriteArrayList<>();
+			PojoTestListener listener = new PojoTestListener() {
+				@Override
+				public void classStarted(Class<?> testedClass) {
+					startThreads.put(testedClass, Thread.currentThread());
+				}
+				@Override
+				public void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+					check(testedClass);
+				}
+				@Override
+				public void classFinished(Class<?> testedClass, PojoTestResult result, long nanos) {
+					check(testedClass);
+				}
+				private void check(Class<?> testedClass) {
+					// 'classStarted' already published by the thread testing the class (small classes => 1 thread)
+					if ( startThreads.get(testedClass) != Thread.currentThread() ) {
+						errors.add(mode + " " + testedClass.getSimpleName());
+					}
+				}
+			};
+			PojoUnitTester.builder().executionMode(mode).listener(listener).build().testAll(Employee.class, Imbalance.class);
+			assertEquals(2, startThreads.size());
+			assertTrue(errors.isEmpty(), errors.toString());
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregated result of a test run (one or more classes)
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PojoTestResult {
+
+	private static final PojoTestResult EMPTY = new PojoTestResult(0, 0, Collections.emptyList());
+
+	private final int classCount;
+	private final int propertyCount;
+	private final List<PojoFailure> failures;
+
+	private PojoTestResult(int classCount, int propertyCount, List<PojoFailure> failures) {
+		super();
+		this.classCount = classCount;
+		this.propertyCount = propertyCount;
+		this.failures = failures;
+	}
+
+	static PojoTestResult empty() {
+		return EMPTY;
+	}
+
+	static PojoTestResult of(int classCount, int propertyCount) {
+		return new PojoTestResult(classCount, propertyCount, Collections.emptyList());
+	}
+
+	static PojoTestResult of(int classCount, int propertyCount, PojoFailure failure) {
+		return new PojoTestResult(classCount, propertyCount, Collections.singletonList(failure));
+	}
+
+	static PojoTestResult of(int classCount, int propertyCount, List<PojoFailure> failures) {
+		return failures.isEmpty() ? of(classCount, propertyCount)
+				: new PojoTestResult(classCount, propertyCount, Collections.unmodifiableList(new ArrayList<>(failures)));
+	}
+
+	/**
+	 * Returns a new result combining this result and the given one <br>
+	 * (copies the failures : use a 'Collector' to combine many results)
+	 * @param other
+	 * @return
+	 */
+	PojoTestResult merge(PojoTestResult other) {
+		List<PojoFailure> allFailures ;
+		if ( other.failures.isEmpty() ) {
+			allFailures = this.failures;
+		}
+		else if ( this.failures.isEmpty() ) {
+			allFailures = other.failures;
+		}
+		else {
+			allFailures = new ArrayList<>(this.failures.size() + other.failures.size());
+			allFailures.addAll(this.failures);
+			allFailures.addAll(other.failures);
+			allFailures = Collections.unmodifiableList(allFailures);
+		}
+		return new PojoTestResult(this.classCount + other.classCount,
+				this.propertyCount + other.propertyCount, allFailures);
+	}
+
+	/**
+	 * Returns the number of tested classes
+	 * @return
+	 */
+	public int getClassCount() {
+		return classCount;
+	}
+
+	/**
+	 * Returns the number of tested properties
+	 * @return
+	 */
+	public int getPropertyCount() {
+		return propertyCount;
+	}
+
+	public List<PojoFailure> getFailures() {
+		return failures;
+	}
+
+	public boolean isSuccess() {
+		return failures.isEmpty();
+	}
+
+	/**
+	 * Returns a report with the counters and 1 line for each failure
+	 * @return
+	 */
+	public String getReport() {
+		StringBuilder sb = new StringBuilder(toString());
+		for (PojoFailure failure : failures) {
+			sb.append("\n - ").append(failure);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Aggregated assertion (usable with JUnit) : throws an 'AssertionError' with the report
+	 * if at least one failure has been detected <br>
+	 * The exceptions at the origin of the failures (if any) are added as 'suppressed' exceptions
+	 */
+	public void assertSuccess() {
+		if ( ! failures.isEmpty() ) {
+			AssertionError error = new AssertionError(getReport());
+			for (PojoFailure failure : failures) {
+				if ( failure.getCause() != null ) {
+					error.addSuppressed(failure.getCause());
+				}
+			}
+			throw error;
+		}
+	}
+
+	/**
+	 * Collector of results : all the failures are added to a single list and the result is built once <br>
+	 * (not thread-safe)
+	 */
+	static final class Collector {
+		private int classCount = 0;
+		private int propertyCount = 0;
+		private final List<PojoFailure> failures = new ArrayList<>();
+
+		Collector add(PojoTestResult result) {
+			classCount += result.classCount;
+			propertyCount += result.propertyCount;
+			failures.addAll(result.failures);
+			return this;
+		}
+
+		PojoTestResult build() {
+			return of(classCount, propertyCount, failures);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return classCount + " class(es), " + propertyCount + " property(ies), " + failures.size() + " failure(s)";
+	}
+}
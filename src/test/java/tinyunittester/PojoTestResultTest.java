@@ -0,0 +1,69 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tinyunittester.corpus.PojoCorpus;
+import tinyunittester.corpus.PojoCorpusGenerator;
+
+public class PojoTestResultTest {
+
+	private static PojoFailure failure(String name) {
+		return new PojoFailure(PojoTestResultTest.class, new IllegalStateException(name));
+	}
+
+	@Test
+	public void testCollector() {
+		PojoTestResult.Collector collector = new PojoTestResult.Collector();
+		collector.add(PojoTestResult.of(1, 3, failure("A")));
+		collector.add(PojoTestResult.empty());
+		collector.add(PojoTestResult.of(1, 2, failure("B")).merge(PojoTestResult.of(0, 1, failure("C"))));
+		PojoTestResult result = collector.build();
+		assertEquals(2, result.getClassCount());
+		assertEquals(6, result.getPropertyCount());
+		List<String> names = new ArrayList<>();
+		for (PojoFailure failure : result.getFailures()) {
+			names.add(failure.getCause().getMessage());
+		}
+		assertEquals(List.of("A", "B", "C"), names);
+	}
+
+	@Test
+	public void testFailuresInClassOrder() {
+		// large classes (split in ranges) and many buggy classes
+		PojoCorpus corpus = PojoCorpusGenerator.builder()
+				.classCount(200).propertyCount(150).bugRate(0.5).build().generate();
+		List<String> expected = new ArrayList<>();
+		for (Class<?> clazz : corpus.getClasses()) {
+			if ( corpus.isBuggy(clazz) ) {
+				expected.add(clazz.getName());
+			}
+		}
+		for (ExecutionMode mode : ExecutionMode.values()) {
+			PojoTestResult result = PojoUnitTester.builder().executionMode(mode).failureMode(FailureMode.COLLECT_ALL)
+					.build().testAll(corpus.getClasses());
+			assertEquals(200, result.getClassCount());
+			assertEquals(200 * 150, result.getPropertyCount());
+			List<String> actual = new ArrayList<>();
+			for (PojoFailure failure : result.getFailures()) {
+				actual.add(failure.getTestedClass().getName());
+			}
+			assertEquals(expected, actual);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/Join task testing a list of classes <br>
+ * The list is split in 2 halves until a single class remains, then a class with many properties
+ * is split in ranges of properties (each range is tested with its own instance) <br>
+ * The result of each class is stored at the index of the class and the results are collected once at the end
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class PojoTestTask extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Max number of properties tested by a single task
+	 */
+	static final int PROPERTIES_THRESHOLD = 64;
+
+	private final transient PojoUnitTester tester;
+	private final transient List<Class<?>> classes;
+	private final transient PojoTestResult[] results; // 1 result for each class (shared by all the tasks of a run)
+	private final int from;
+	private final int to;
+
+	private PojoTestTask(PojoUnitTester tester, List<Class<?>> classes, PojoTestResult[] results, int from, int to) {
+		super();
+		this.tester = tester;
+		this.classes = classes;
+		this.results = results;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Tests all the given classes in the given pool
+	 * @param pool
+	 * @param tester
+	 * @param classes
+	 * @return the aggregated result (failures in the order of the classes)
+	 */
+	static PojoTestResult run(ForkJoinPool pool, PojoUnitTester tester, List<Class<?>> classes) {
+		PojoTestResult[] results = new PojoTestResult[classes.size()];
+		pool.invoke(new PojoTestTask(tester, classes, results, 0, classes.size()));
+		PojoTestResult.Collector collector = new PojoTestResult.Collector();
+		for (PojoTestResult result : results) {
+			collector.add(result);
+		}
+		return collector.build();
+	}
+
+	@Override
+	protected void compute() {
+		if ( to - from > 1 ) {
+			int middle = ( from + to ) >>> 1;
+			invokeAll(new PojoTestTask(tester, classes, results, from, middle),
+					new PojoTestTask(tester, classes, results, middle, to));
+		}
+		else if ( to - from == 1 ) {
+			results[from] = computeClass(classes.get(from));
+		}
+	}
+
+	private PojoTestResult computeClass(Class<?> c) {
+		long start = tester.classStarted(c);
+		AccessorPlan plan = null;
+		PojoTestResult failure = null;
+		try {
+			plan = AccessorPlan.of(c);
+		} catch (LinkageError | RuntimeException e) {
+			// accessor plan not available (eg missing dependency) => failure of this class only
+			failure = tester.classFailure(c, e);
+		}
+		PojoTestResult result = plan != null ? computeProperties(c, plan.getProperties().size())
+				: PojoTestResult.of(1, 0).merge(failure);
+		tester.classFinished(c, result, start);
+		return result;
+	}
+
+	private PojoTestResult computeProperties(Class<?> c, int size) {
+		if ( size <= PROPERTIES_THRESHOLD ) {
+			return PojoTestResult.of(1, 0).merge(tester.testPropertiesRange(c, 0, size));
+		}
+		// large class => 1 sub-task for each range of properties
+		RangeTask[] tasks = new RangeTask[(size + PROPERTIES_THRESHOLD - 1) / PROPERTIES_THRESHOLD];
+		for (int i = 0 ; i < tasks.length ; i++) {
+			int start = i * PROPERTIES_THRESHOLD;
+			tasks[i] = new RangeTask(tester, c, start, Math.min(start + PROPERTIES_THRESHOLD, size));
+		}
+		invokeAll(tasks);
+		PojoTestResult.Collector collector = new PojoTestResult.Collector().add(PojoTestResult.of(1, 0));
+		for (RangeTask task : tasks) {
+			collector.add(task.join());
+		}
+		return collector.build();
+	}
+
+	/**
+	 * Task for a range of properties of a class
+	 */
+	private static final class RangeTask extends RecursiveTask<PojoTestResult> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient PojoUnitTester tester;
+		private final transient Class<?> clazz;
+		private final int from;
+		private final int to;
+
+		RangeTask(PojoUnitTester tester, Class<?> clazz, int from, int to) {
+			super();
+			this.tester = tester;
+			this.clazz = clazz;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected PojoTestResult compute() {
+			return tester.testPropertiesRange(clazz, from, to);
+		}
+	}
+}
@@ -11,66 +11,301 @@
  */
 package tinyunittester;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.Parameter;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.net.MalformedURLException;
-import java.net.URI;
-import java.net.URL;
-import java.text.MessageFormat;
-import java.text.SimpleDateFormat;
-import java.time.DayOfWeek;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.Month;
-import java.time.MonthDay;
-import java.time.OffsetDateTime;
-import java.time.OffsetTime;
-import java.time.Period;
-import java.time.Year;
-import java.time.YearMonth;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.util.Currency;
-import java.util.UUID;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import tinyunittester.scan.PackageScanner;
 
 /**
  * Automated testing tool for 'POJO' type classes, usable with JUnit
  * 
+ * A tester is immutable once built and thread-safe : a single instance can be shared by all the tests
+ * (see '@PojoTest'), including tests executed in parallel. The caches (accessor plans, value generators,
+ * bound accessors, pooled values) are per class and shared by all the testers. <br>
+ * The thread-safety of the listeners and log sinks given to the builder is the responsibility of their implementation.
+ * 
  * @author Laurent Guerin
  *
  */
 public class PojoUnitTester {
 
 	/**
-	 * Inner class for POJO errors
+	 * Exception for POJO errors <br>
+	 * For an invalid property the message is formatted only when it is read
+	 * and the stack trace can be disabled (see 'Builder.stackTraces')
 	 */
-	public class PojoException extends RuntimeException {
-		private static final long serialVersionUID = 1L;
+	public static class PojoException extends RuntimeException {
+		private static final long serialVersionUID = 2L;
+		private final transient PojoFailure failure; // single failure (or null)
+		private final transient PojoTestResult result; // collected failures (or null)
+		private String message; // formatted on first read
 		public PojoException(String message) {
-			super(message);
+			this(message, null);
 		}
-		public PojoException(String message, Exception cause) {
+		public PojoException(String message, Throwable cause) {
 			super(message, cause);
+			this.failure = null;
+			this.result = null;
+			this.message = message;
 		}
 		public PojoException(String message, Method method, Exception cause) {
-			super(message + " method '" + method.getName() + "'" , cause);
+			this(message + " method '" + method.getName() + "'" , cause);
+		}
+		PojoException(PojoFailure failure, boolean writableStackTrace) {
+			super(null, failure.getCause(), true, writableStackTrace);
+			this.failure = failure;
+			this.result = null;
+		}
+		PojoException(PojoTestResult result, boolean writableStackTrace) {
+			super(null, null, true, writableStackTrace);
+			this.failure = null;
+			this.result = result;
+			for (PojoFailure f : result.getFailures()) {
+				if ( f.getCause() != null ) {
+					addSuppressed(f.getCause());
+				}
+			}
+		}
+		@Override
+		public String getMessage() {
+			if ( message == null ) {
+				if ( failure != null ) {
+					message = failure.getMessage();
+				}
+				else if ( result != null ) {
+					message = result.getReport();
+				}
+			}
+			return message;
+		}
+		/**
+		 * Returns the tested class (or null if unknown)
+		 * @return
+		 */
+		public Class<?> getTestedClass() {
+			return failure != null ? failure.getTestedClass() : null;
+		}
+		/**
+		 * Returns the name of the invalid property (or null if unknown)
+		 * @return
+		 */
+		public String getPropertyName() {
+			return failure != null ? failure.getPropertyName() : null;
+		}
+		/**
+		 * Returns the value given to the setter (or null if unknown)
+		 * @return
+		 */
+		public Object getExpected() {
+			return failure != null ? failure.getExpected() : null;
+		}
+		/**
+		 * Returns the value returned by the getter (or null if unknown)
+		 * @return
+		 */
+		public Object getActual() {
+			return failure != null ? failure.getActual() : null;
+		}
+		/**
+		 * Returns all the failures at the origin of this exception (empty if unknown)
+		 * @return
+		 */
+		public List<PojoFailure> getFailures() {
+			if ( failure != null ) {
+				return Collections.singletonList(failure);
+			}
+			return result != null ? result.getFailures() : Collections.emptyList();
+		}
+		private void writeObject(ObjectOutputStream out) throws IOException {
+			getMessage(); // the failures are not serializable => keep the message
+			out.defaultWriteObject();
 		}
 	}
 
-	private final boolean logEnabled ;
+	/**
+	 * Builder for a tester with specific options (not thread-safe)
+	 */
+	public static class Builder {
+		private LogLevel logLevel = LogLevel.OFF;
+		private LogSink logSink = null;
+		private boolean pooledValues = false;
+		private Clock clock = null;
+		private Long seed = null;
+		private ForkJoinPool pool = null;
+		private ExecutionMode executionMode = ExecutionMode.FORK_JOIN;
+		private FailureMode failureMode = FailureMode.FAIL_FAST;
+		private boolean stackTraces = true;
+		private boolean staticVerification = false;
+		private final List<PojoTestListener> listeners = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Enables or disables the log (all the levels)
+		 * @param logEnabled
+		 * @return
+		 */
+		public Builder logEnabled(boolean logEnabled) {
+			this.logLevel = logEnabled ? LogLevel.TRACE : LogLevel.OFF;
+			return this;
+		}
+
+		/**
+		 * Minimum level of the messages to be logged (by default 'OFF')
+		 * @param logLevel
+		 * @return
+		 */
+		public Builder logLevel(LogLevel logLevel) {
+			this.logLevel = logLevel;
+			return this;
+		}
+
+		/**
+		 * Destination of the log messages (by default the console)
+		 * @param logSink
+		 * @return
+		 */
+		public Builder logSink(LogSink logSink) {
+			this.logSink = logSink;
+			return this;
+		}
+
+		/**
+		 * Pooled values mode : immutable values are created once for each type and shared
+		 * @param pooledValues
+		 * @return
+		 */
+		public Builder pooledValues(boolean pooledValues) {
+			this.pooledValues = pooledValues;
+			return this;
+		}
+
+		/**
+		 * Clock used for all the date/time values (by default the system clock) <br>
+		 * eg 'ValueContext.fixedClock()' for the same date/time values in all the runs
+		 * @param clock
+		 * @return
+		 */
+		public Builder clock(Clock clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Seed used for the random values (UUID, etc)
+		 * @param seed
+		 * @return
+		 */
+		public Builder seed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		/**
+		 * Fork/Join pool used to test several classes (by default the common pool)
+		 * @param pool
+		 * @return
+		 */
+		public Builder pool(ForkJoinPool pool) {
+			this.pool = pool;
+			return this;
+		}
+
+		/**
+		 * Execution mode used to test several classes (by default 'FORK_JOIN')
+		 * @param executionMode
+		 * @return
+		 */
+		public Builder executionMode(ExecutionMode executionMode) {
+			this.executionMode = executionMode;
+			return this;
+		}
+
+		/**
+		 * Behavior when a property is invalid (by default 'FAIL_FAST')
+		 * @param failureMode
+		 * @return
+		 */
+		public Builder failureMode(FailureMode failureMode) {
+			this.failureMode = failureMode;
+			return this;
+		}
+
+		/**
+		 * Stack trace in the exceptions thrown for invalid properties (by default 'true') <br>
+		 * Without stack trace the failures are cheaper (useful when failures are frequent)
+		 * @param stackTraces
+		 * @return
+		 */
+		public Builder stackTraces(boolean stackTraces) {
+			this.stackTraces = stackTraces;
+			return this;
+		}
+
+		/**
+		 * Static verification mode : a property with trivial accessors ('this.x = x' and 'return this.x' on the same field)
+		 * is certified from the bytecode, without invocation (by default 'false') <br>
+		 * The other properties are tested as usual and the class is instantiated only if at least 1 property is tested
+		 * @param staticVerification
+		 * @return
+		 */
+		public Builder staticVerification(boolean staticVerification) {
+			this.staticVerification = staticVerification;
+			return this;
+		}
+
+		/**
+		 * Adds a listener notified during the tests (can be called several times)
+		 * @param listener
+		 * @return
+		 */
+		public Builder listener(PojoTestListener listener) {
+			this.listeners.add(listener);
+			return this;
+		}
+
+		private PojoTestListener listener() {
+			if ( listeners.isEmpty() ) {
+				return null;
+			}
+			return listeners.size() == 1 ? listeners.get(0) : new CompositeTestListener(listeners);
+		}
+
+		private ValueSource valueSource() {
+			if ( clock == null && seed == null ) {
+				return pooledValues ? ValueSource.getPooled() : ValueSource.getDefault();
+			}
+			ValueContext defaultContext = ValueContext.getDefault();
+			ValueContext context = new ValueContext(
+					clock != null ? clock : defaultContext.getClock(),
+					seed != null ? seed : defaultContext.getSeed() );
+			return new ValueSource(context, pooledValues);
+		}
+
+		public PojoUnitTester build() {
+			return new PojoUnitTester(this);
+		}
+	}
 
-	// Setter/Getter prefix
-	private static final String SET = "set";
-	private static final String GET = "get";
-	private static final String IS = "is";
+	private final PojoLogger logger ;
+	private final ValueSource values ;
+	private final ForkJoinPool pool ;
+	private final ExecutionMode executionMode ;
+	private final FailureMode failureMode ;
+	private final boolean stackTraces ;
+	private final boolean staticVerification ;
+	private final PojoTestListener listener ; // null if none
 
 	/**
 	 * Default constructor
@@ -84,19 +319,56 @@ public class PojoUnitTester {
 	 * @param logEnabled
 	 */
 	public PojoUnitTester(boolean logEnabled) {
+		this(builder().logEnabled(logEnabled));
+	}
+
+	private PojoUnitTester(Builder builder) {
 		super();
-		this.logEnabled = logEnabled;
+		this.logger = new PojoLogger(builder.logLevel, builder.logSink != null ? builder.logSink : new ConsoleLogSink());
+		this.values = builder.valueSource();
+		this.pool = builder.pool != null ? builder.pool : ForkJoinPool.commonPool();
+		this.executionMode = builder.executionMode;
+		this.failureMode = builder.failureMode;
+		this.stackTraces = builder.stackTraces;
+		this.staticVerification = builder.staticVerification;
+		this.listener = builder.listener();
 	}
 
-	private void log(String msg) {
-		if ( logEnabled ) {
-			System.out.println("PojoTester: " + msg);
-		}
+	/**
+	 * Constructor of a run with its own listener (same options)
+	 * @param tester
+	 * @param listener
+	 */
+	private PojoUnitTester(PojoUnitTester tester, PojoTestListener listener) {
+		super();
+		this.logger = tester.logger;
+		this.values = tester.values;
+		this.pool = tester.pool;
+		this.executionMode = tester.executionMode;
+		this.failureMode = tester.failureMode;
+		this.stackTraces = tester.stackTraces;
+		this.staticVerification = tester.staticVerification;
+		this.listener = listener;
 	}
-	private void log(Class<?> clazz, String msg) {
-		log(clazz.getSimpleName() + ": " + msg);
+
+	/**
+	 * Returns the tester to be used for a new run : this tester or a copy with the listener
+	 * of the run (see 'PojoTestListener.runStarted')
+	 * @return
+	 */
+	private PojoUnitTester startRun() {
+		PojoTestListener runListener = listener != null ? listener.runStarted() : null;
+		return runListener == listener ? this : new PojoUnitTester(this, runListener);
 	}
-	
+
+	/**
+	 * Returns a builder to create a tester with specific options
+	 * @return
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
 	/**
 	 * Test test everything possible for the given class 
 	 * @param clazz
@@ -106,123 +378,359 @@ public class PojoUnitTester {
 		testSettersAndGettersBehavior(clazz);
 	}
 
+	/**
+	 * Test everything possible for all the given classes <br>
+	 * The classes are tested in parallel (Fork/Join pool or virtual threads) and the failures don't stop the run
+	 * @param classes
+	 * @return the aggregated result
+	 */
+	public PojoTestResult testAll(Collection<? extends Class<?>> classes) {
+		List<Class<?>> list = new ArrayList<Class<?>>(classes);
+		PojoUnitTester run = startRun();
+		try {
+			if ( executionMode == ExecutionMode.VIRTUAL_THREADS && VirtualThreadRunner.isSupported() ) {
+				return VirtualThreadRunner.run(run, list);
+			}
+			else {
+				return PojoTestTask.run(pool, run, list);
+			}
+		} finally {
+			logger.flush(); // messages of the caller thread (the workers flush at the end of each class)
+		}
+	}
+
+	/**
+	 * Test everything possible for all the given classes (see 'testAll(Collection)')
+	 * @param classes
+	 * @return the aggregated result
+	 */
+	public PojoTestResult testAll(Class<?>... classes) {
+		return testAll(Arrays.asList(classes));
+	}
+
+	/**
+	 * Test all the POJO classes found in the given package and its sub-packages (see 'PackageScanner')
+	 * @param packageName
+	 * @return the aggregated result
+	 */
+	public PojoTestResult testPackage(String packageName) {
+		return testPackage(PackageScanner.of(packageName));
+	}
+
+	/**
+	 * Test all the POJO classes found by the given scanner (with include/exclude patterns)
+	 * @param scanner
+	 * @return the aggregated result
+	 */
+	public PojoTestResult testPackage(PackageScanner scanner) {
+		return testAll(scanner.scan());
+	}
+
 	/**
 	 * Test instance creation with the default constructor
 	 * @param clazz
 	 */
 	public void testDefaultConstructor(Class<?> clazz) {
-		log(clazz, "new instance : ");
-		createInstanceWithDefaultConstructor(getDefaultConstructor(clazz));
+		try {
+			logger.trace("{}: new instance : ", clazz);
+			createInstanceWithDefaultConstructor(getDefaultConstructor(clazz));
+		} finally {
+			logger.flush();
+		}
 	}
 
 	/**
 	 * Test the behavior for all the getters and setters identifiable in the class <br>
 	 * Checks the value retrieved by the getter is the same as the value provided to the setter <br>
-	 * The getter can be 'getXxx' or 'isXxx' (invoked only if a corresponding setter exists)
+	 * The getter can be 'getXxx' or 'isXxx' (invoked only if a corresponding setter exists) <br>
+	 * In 'COLLECT_ALL' mode all the properties are tested before throwing a single exception with all the failures
 	 * @param clazz
 	 */
 	public void testSettersAndGettersBehavior(Class<?> clazz) {
-		Object instance = createInstance(clazz);
-		for (Method method : clazz.getMethods()) {
-			if ( isSetterWithSingleParameter(method) ) {
-				// setter found => search getter
-				Method setter = method ;
-				Object value1 = setValueUsingSetter(instance, setter);
-				Method getter = searchGetterFromSetter(clazz, setter);
-				if ( getter != null ) {
-					Object value2 = getValueUsingGetter(instance, getter);
-					if ( ! sameValue(value2, value1) ) {
-						throw new PojoException(clazz.getSimpleName() + " : " 
-								+ setter.getName() + " : " + value1 + " (" + value1.getClass().getSimpleName() + ")"
-								+ " / "
-								+ getter.getName() + " : " + value2 + " (" + value2.getClass().getSimpleName() + ")"   );
+		PojoUnitTester run = startRun();
+		PojoTestResult result;
+		try {
+			long start = run.classStarted(clazz);
+			result = PojoTestResult.of(1, 0).merge(run.testClass(clazz));
+			run.classFinished(clazz, result, start);
+		} finally {
+			logger.flush();
+		}
+		if ( ! result.isSuccess() ) {
+			throw failureException(result);
+		}
+	}
+
+	/**
+	 * Tests all the properties of the given class with a single instance
+	 * @param clazz
+	 * @return
+	 */
+	private PojoTestResult testClass(Class<?> clazz) {
+		List<PropertyAccessor> properties;
+		try {
+			properties = AccessorPlan.of(clazz).getProperties();
+		} catch (LinkageError | RuntimeException e) {
+			return classFailure(clazz, e);
+		}
+		if ( logger.isEnabled(LogLevel.INFO) ) {
+			logger.info("{}: testing {} properties", clazz, properties.size());
+		}
+		return testProperties(clazz, properties);
+	}
+
+	/**
+	 * Test the behavior of a single property with a new instance of the class <br>
+	 * Usable to test each property separately (eg 1 JUnit dynamic test for each property)
+	 * @param clazz
+	 * @param property a property of the class (see 'AccessorPlan')
+	 */
+	public void testProperty(Class<?> clazz, PropertyAccessor property) {
+		PojoTestResult result = startRun().testProperties(clazz, Collections.singletonList(property));
+		if ( ! result.isSuccess() ) {
+			throw failureException(result);
+		}
+	}
+
+	/**
+	 * Tests a range of properties of the given class with a new instance (used by parallel tasks)
+	 * @param clazz
+	 * @param from index of the first property (inclusive)
+	 * @param to index of the last property (exclusive)
+	 * @return
+	 */
+	PojoTestResult testPropertiesRange(Class<?> clazz, int from, int to) {
+		if ( logger.isEnabled(LogLevel.INFO) ) {
+			logger.info("{}: testing properties {}", clazz, from + ".." + to);
+		}
+		return testProperties(clazz, AccessorPlan.of(clazz).getProperties().subList(from, to));
+	}
+
+	/**
+	 * Returns the result of a class that cannot be tested at all, eg accessor plan not available
+	 * because of a missing dependency (the failure is published) <br>
+	 * Only this class fails, the other classes of a multi-class run are still tested
+	 * @param clazz
+	 * @param e
+	 * @return
+	 */
+	PojoTestResult classFailure(Class<?> clazz, Throwable e) {
+		PojoFailure failure = new PojoFailure(clazz, e);
+		if ( listener != null ) {
+			listener.propertyFailed(clazz, null, failure, 0L);
+		}
+		return PojoTestResult.of(0, 0, Collections.singletonList(failure));
+	}
+
+	/**
+	 * Publishes the 'class started' event (if any listener)
+	 * @param clazz
+	 * @return the start time (to be given to 'classFinished')
+	 */
+	long classStarted(Class<?> clazz) {
+		if ( listener != null ) {
+			listener.classStarted(clazz);
+			return System.nanoTime();
+		}
+		return 0L;
+	}
+
+	/**
+	 * Publishes the 'class finished' event (if any listener)
+	 * @param clazz
+	 * @param result
+	 * @param start
+	 */
+	void classFinished(Class<?> clazz, PojoTestResult result, long start) {
+		if ( listener != null ) {
+			listener.classFinished(clazz, result, System.nanoTime() - start);
+		}
+	}
+
+	private PojoTestResult testProperties(Class<?> clazz, List<PropertyAccessor> properties) {
+		int count = 0;
+		List<PojoFailure> failures = new ArrayList<>();
+		try {
+			// static verification => instance created only if needed
+			Object instance = staticVerification ? null : createInstance(clazz);
+			for (PropertyAccessor property : properties) {
+				count++;
+				if ( staticVerification && certify(clazz, property) ) {
+					continue;
+				}
+				if ( instance == null ) {
+					instance = createInstance(clazz);
+				}
+				PojoFailure failure = testAndPublish(clazz, instance, property);
+				if ( failure != null ) {
+					failures.add(failure);
+					if ( failureMode == FailureMode.FAIL_FAST ) {
+						break;
 					}
 				}
 			}
+			if ( instance == null ) {
+				getDefaultConstructor(clazz); // not instantiated but the default constructor is required
+			}
+			return PojoTestResult.of(0, count, failures);
+		} catch (LinkageError | RuntimeException e) {
+			// failure of the class itself (eg no default constructor, missing dependency)
+			failures.addAll(classFailure(clazz, e).getFailures());
+			return PojoTestResult.of(0, count, failures);
+		} finally {
+			logger.flush();
 		}
 	}
 
-	private boolean sameValue(Object value1, Object value2) {
-		if ( value1 == null && value2 == null ) {
-			return true;
+	/**
+	 * Certifies the property if its accessors are trivial (static verification)
+	 * @param clazz
+	 * @param property
+	 * @return true if certified (no test required)
+	 */
+	private boolean certify(Class<?> clazz, PropertyAccessor property) {
+		long start = listener != null ? System.nanoTime() : 0L;
+		if ( ! property.isTrivial() ) {
+			return false;
 		}
-		else {
-			if ( value1 == null || value2 == null ) { // 1 of the 2 is null
-				return false;
-			}
-			else {
-				return value1.equals(value2);
+		logger.trace("{}: {} certified (trivial accessors)", clazz, property);
+		if ( listener != null ) {
+			listener.propertyVerified(clazz, property, System.nanoTime() - start);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the exception to be thrown for the failures of a single class
+	 * @param result
+	 * @return
+	 */
+	private RuntimeException failureException(PojoTestResult result) {
+		List<PojoFailure> failures = result.getFailures();
+		if ( failures.size() > 1 ) {
+			return new PojoException(result, stackTraces);
+		}
+		PojoFailure failure = failures.get(0);
+		if ( failure.getPropertyName() == null ) {
+			// failure of the class itself (eg no default constructor) => original exception
+			if ( failure.getCause() instanceof Error ) {
+				throw (Error) failure.getCause();
 			}
+			return (RuntimeException) failure.getCause();
 		}
+		return new PojoException(failure, stackTraces);
 	}
-	
-	private Object setValueUsingSetter(Object instance, Method setter) {
-		Parameter p = setter.getParameters()[0];
-		Object value = getValue(p.getType());
+
+	/**
+	 * Tests a single property and publishes the result (if any listener)
+	 * @param clazz
+	 * @param instance
+	 * @param property
+	 * @return the failure or null if the property is valid
+	 */
+	private PojoFailure testAndPublish(Class<?> clazz, Object instance, PropertyAccessor property) {
+		if ( listener == null ) {
+			return verifyProperty(instance, property);
+		}
+		long start = System.nanoTime();
+		PojoFailure failure = verifyProperty(instance, property);
+		long nanos = System.nanoTime() - start;
+		if ( failure == null ) {
+			listener.propertyVerified(clazz, property, nanos);
+		}
+		else {
+			listener.propertyFailed(clazz, property, failure, nanos);
+		}
+		return failure;
+	}
+
+	/**
+	 * Tests a single property
+	 * @param instance
+	 * @param property
+	 * @return the failure or null if the property is valid
+	 */
+	private PojoFailure verifyProperty(Object instance, PropertyAccessor property) {
+		PrimitiveAccessor primitive = property.getPrimitiveAccessor();
+		if ( primitive != null && ! logger.isTraceEnabled() ) {
+			return testPrimitiveProperty(instance, property, primitive);
+		}
+		else {
+			return testBoxedProperty(instance, property);
+		}
+	}
+
+	private PojoFailure testBoxedProperty(Object instance, PropertyAccessor property) {
+		Object value1 = values.valueFor(property);
 		try {
-			setter.invoke(instance, value);
-			log(instance.getClass(), setter.getName() + "(" + value + ")");
-		} catch (IllegalAccessException e) {
-			throw new PojoException("Cannot set value (IllegalAccessException)", setter, e);
-		} catch (IllegalArgumentException e) {
-			throw new PojoException("Cannot set value (IllegalArgumentException)", setter, e);
-		} catch (InvocationTargetException e) {
-			throw new PojoException("Cannot set value (InvocationTargetException)", setter, e);
+			property.set(instance, value1);
+			logger.trace("{}: {}({})", instance.getClass(), property.getSetter().getName(), value1);
+		} catch (Exception e) {
+			return accessorError(instance, property, property.getSetter(), value1, e);
 		}
-		return value;
+		if ( property.hasGetter() ) {
+			Object value2 ;
+			try {
+				value2 = property.get(instance);
+				logger.trace("{}: {}() {}", instance.getClass(), property.getGetter().getName(), value2);
+			} catch (Exception e) {
+				return accessorError(instance, property, property.getGetter(), value1, e);
+			}
+			if ( ! sameValue(value2, value1) ) {
+				return differentValues(instance, property, value1, value2);
+			}
+		}
+		return null;
 	}
 
-	private Object getValueUsingGetter(Object instance, Method getter) {
-		Object value = null;
+	/**
+	 * Primitive fast path (no boxing)
+	 * @param instance
+	 * @param property
+	 * @param primitive
+	 * @return the failure or null if the property is valid
+	 */
+	private PojoFailure testPrimitiveProperty(Object instance, PropertyAccessor property, PrimitiveAccessor primitive) {
 		try {
-			value = getter.invoke(instance);
-			log(instance.getClass(), getter.getName() + "() " + value);
-		} catch (IllegalAccessException e) {
-			throw new PojoException("Cannot get value (IllegalAccessException)", getter, e);
-		} catch (IllegalArgumentException e) {
-			throw new PojoException("Cannot get value (IllegalArgumentException)", getter, e);
-		} catch (InvocationTargetException e) {
-			throw new PojoException("Cannot get value (InvocationTargetException)", getter, e);
+			primitive.set(instance);
+		} catch (Exception e) {
+			return accessorError(instance, property, property.getSetter(), primitive.getValue(), e);
+		}
+		if ( property.hasGetter() ) {
+			try {
+				if ( ! primitive.getAndCompare(instance) ) {
+					// boxed values only to report the failure
+					return differentValues(instance, property, primitive.getValue(), property.get(instance));
+				}
+			} catch (Exception e) {
+				return accessorError(instance, property, property.getGetter(), primitive.getValue(), e);
+			}
 		}
-		return value;
+		return null;
 	}
-	
-	private boolean isSetterWithSingleParameter(Method method) {
-		int modifiers = method.getModifiers();
-		return method.getName().startsWith(SET) 
-				&& Modifier.isPublic(modifiers)
-				&& ! Modifier.isAbstract(modifiers)
-				&& ! Modifier.isStatic(modifiers)
-				&& method.getParameterCount() == 1;
+
+	private PojoFailure accessorError(Object instance, PropertyAccessor property, Method method, Object value, Exception e) {
+		return new PojoFailure(instance.getClass(), property, value, null, method, e);
 	}
 
-	private boolean isGetter(Method method) {
-		int modifiers = method.getModifiers();
-		return ( method.getName().startsWith(GET) || method.getName().startsWith(IS) )
-				&& Modifier.isPublic(modifiers)
-				&& ! Modifier.isAbstract(modifiers)
-				&& ! Modifier.isStatic(modifiers)
-				&& method.getParameterCount() == 0;
+	private PojoFailure differentValues(Object instance, PropertyAccessor property, Object value1, Object value2) {
+		return new PojoFailure(instance.getClass(), property, value1, value2, null, null);
 	}
 
-	private Method searchGetterFromSetter(Class<?> clazz, Method setter) {
-		Method method = getMethod(clazz, changePrefix(setter.getName(), SET, GET) ); // getXxx
-		if ( method == null ) {
-			method = getMethod(clazz, changePrefix(setter.getName(), SET, IS) ); // isXxx
-		}
-		if (method != null && isGetter(method) ) {
-			return method;
+	private boolean sameValue(Object value1, Object value2) {
+		if ( value1 == null && value2 == null ) {
+			return true;
 		}
 		else {
-			return null;
+			if ( value1 == null || value2 == null ) { // 1 of the 2 is null
+				return false;
+			}
+			else {
+				return value1.equals(value2);
+			}
 		}
 	}
-
-	private String changePrefix(String s, String prefix1, String prefix2) {
-		String s2 = s.substring(prefix1.length());
-		return prefix2 + s2;
-	}
-
+	
 	private Object createInstance(Class<?> clazz) {
 		Constructor<?> constructor = getDefaultConstructor(clazz);
 		if ( constructor != null ) {
@@ -244,18 +752,8 @@ public class PojoUnitTester {
 		}
 	}
 
-	private Method getMethod(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
-		try {
-			return clazz.getMethod(methodName);
-		} catch (NoSuchMethodException e) {
-			return null;
-		} catch (SecurityException e) {
-			throw new PojoException("Cannot get method '" + methodName + "' (SecurityException)", e);
-		}
-	}
-
 	private Object createInstanceWithDefaultConstructor(Constructor<?> constructor) {
-		log("new instance with default constructor");
+		logger.trace("new instance with default constructor {}", constructor.getDeclaringClass());
 		try {
 			return constructor.newInstance();
 		} catch (InstantiationException e) {
@@ -269,104 +767,4 @@ public class PojoUnitTester {
 		}
 	}
 
-	private Object getValue(Class<?> type) {
-		if (type.isAssignableFrom(String.class)) {
-            return "Z";
-        } else if (type.isAssignableFrom(Boolean.class) || type.isAssignableFrom(boolean.class)) {
-            return Boolean.TRUE;
-        } else if (type.isAssignableFrom(Character.class) || type.isAssignableFrom(char.class)) {
-            return Character.valueOf('a');
-        // Standard numbers
-        } else if (type.isAssignableFrom(Byte.class) || type.isAssignableFrom(byte.class)) {
-            return Byte.valueOf((byte)4);
-        } else if (type.isAssignableFrom(Short.class) || type.isAssignableFrom(short.class)) {
-            return Short.valueOf((short)12);
-        } else if (type.isAssignableFrom(Integer.class) || type.isAssignableFrom(int.class)) {
-            return Integer.valueOf(12345);
-        } else if (type.isAssignableFrom(Long.class) || type.isAssignableFrom(long.class)) {
-            return Long.valueOf(123456789L);
-        } else if (type.isAssignableFrom(Float.class) || type.isAssignableFrom(float.class)) {
-            return Float.valueOf(123.45F);
-        } else if (type.isAssignableFrom(Double.class) || type.isAssignableFrom(double.class)) {
-            return Double.valueOf(12345.6789);
-
-        // Math types :
-        } else if (type.isAssignableFrom(BigInteger.class) ) {
-            return new BigInteger("12345678");
-        } else if (type.isAssignableFrom(BigDecimal.class) ) {
-            return new BigDecimal("123456.789");
-            
-        // Date-Time types (java.time.* ) :
-        } else if (type.isAssignableFrom(LocalDate.class) ) {
-            return LocalDate.now();
-        } else if (type.isAssignableFrom(LocalDateTime.class) ) {
-            return LocalDateTime.now();
-        } else if (type.isAssignableFrom(LocalTime.class) ) {
-            return LocalTime.now();
-        } else if (type.isAssignableFrom(ZonedDateTime.class) ) {
-            return ZonedDateTime.now();
-        } else if (type.isAssignableFrom(OffsetDateTime.class) ) {
-            return OffsetDateTime.now();
-        } else if (type.isAssignableFrom(OffsetTime.class) ) {
-            return OffsetTime.now();
-        } else if (type.isAssignableFrom(Instant.class) ) {
-            return Instant.now();
-        } else if (type.isAssignableFrom(Duration.class) ) {
-            return Duration.ofMinutes(45);
-        } else if (type.isAssignableFrom(Period.class) ) {
-            return Period.ofDays(12); // a period of 12 days 
-        } else if (type.isAssignableFrom(Year.class) ) { // a year 
-            return Year.now();
-        } else if (type.isAssignableFrom(YearMonth.class) ) { // combination of year + month
-            return YearMonth.now();
-        } else if (type.isAssignableFrom(Month.class) ) { // a month of the year (from January to December) 
-            return Month.AUGUST;
-        } else if (type.isAssignableFrom(MonthDay.class) ) { // combination of month + day
-            return MonthDay.now();
-        } else if (type.isAssignableFrom(DayOfWeek.class) ) { // a day of the week (from Monday to Sunday) 
-            return DayOfWeek.SATURDAY;
-        } else if (type.isAssignableFrom(ZoneOffset.class) ) {
-            return ZoneOffset.UTC;
-
-        // Util types (java.util.*) 
-	    } else if (type.isAssignableFrom(UUID.class)) {
-	        return UUID.randomUUID();
-	    } else if (type.isAssignableFrom(Currency.class)) {
-	        return Currency.getInstance("EUR");
-	        
-        // Text types (java.text.*) 
-	    } else if (type.isAssignableFrom(SimpleDateFormat.class)) {
-	        return new SimpleDateFormat();
-	    } else if (type.isAssignableFrom(MessageFormat.class)) {
-	        return new MessageFormat("{0} days, {1} hours, {2} minutes)");
-		        
-        // Network types (java.net.*) 
-	    } else if (type.isAssignableFrom(URL.class)) {
-	        try {
-				return new URL("http://www.example.com/");
-			} catch (MalformedURLException e) {
-				return null;
-			}
-	    } else if (type.isAssignableFrom(URI.class)) {
-			return URI.create("http://www.example.com/");
-		        
-        // SQL types :
-        } else if (type.isAssignableFrom(java.sql.Date.class)) {
-            new java.sql.Date(2000000000L); 
-        } else if (type.isAssignableFrom(java.sql.Time.class)) {
-            new java.sql.Time(3000000000L); 
-        } else if (type.isAssignableFrom(java.sql.Timestamp.class)) {
-            new java.sql.Timestamp(4000000000L); 
-            
-        // old types (deprecated but still in use sometimes) :
-        } else if (type.isAssignableFrom(java.util.Date.class)) {
-            return new java.util.Date();
-	    }
-		
-		// add your specific types here if necessary
-		
-		// unknown type => return null
-    	return null;
-	}
-
 }
@@ -0,0 +1,128 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Invalid;
+import org.junit.jupiter.api.Test;
+
+import tinyunittester.PojoUnitTester.PojoException;
+
+public class PojoUnitTesterTest {
+
+	/**
+	 * POJO with 2 invalid properties ('A' and 'C')
+	 */
+	public static class TwoBugs {
+		private String a;
+		private String b;
+		private String c;
+		public String getA() {
+			return a;
+		}
+		public void setA(String a) {
+			this.a = a + "!";
+		}
+		public String getB() {
+			return b;
+		}
+		public void setB(String b) {
+			this.b = b;
+		}
+		public String getC() {
+			return c;
+		}
+		public void setC(String c) {
+			this.c = null;
+		}
+	}
+
+	private static Set<String> propertyNames(List<PojoFailure> failures) {
+		Set<String> names = new HashSet<>();
+		for (PojoFailure failure : failures) {
+			names.add(failure.getTestedClass().getSimpleName() + "." + failure.getPropertyName());
+		}
+		return names;
+	}
+
+	@Test
+	public void testAllFailuresCollected() {
+		PojoTestResult result = PojoUnitTester.builder().failureMode(FailureMode.COLLECT_ALL).build()
+				.testAll(Employee.class, Invalid.class, TwoBugs.class);
+		assertEquals(3, result.getFailures().size());
+		assertEquals(new HashSet<>(Arrays.asList("Invalid.Name", "TwoBugs.A", "TwoBugs.C")), propertyNames(result.getFailures()));
+		PojoFailure failure = result.getFailures().get(0);
+		assertEquals(Invalid.class, failure.getTestedClass());
+		assertEquals(failure.getExpected() + " foo", failure.getActual());
+		assertThrows(AssertionError.class, result::assertSuccess);
+	}
+
+	@Test
+	public void testFailFast() {
+		// only the first failure of each class
+		PojoTestResult result = new PojoUnitTester().testAll(Employee.class, Invalid.class, TwoBugs.class);
+		assertEquals(3, result.getClassCount());
+		assertEquals(2, result.getFailures().size());
+		assertEquals(1, assertThrows(PojoException.class, () -> new PojoUnitTester().testAll(TwoBugs.class)).getFailures().size());
+	}
+
+	@Test
+	public void testSingleClassCollectAll() {
+		PojoUnitTester tester = PojoUnitTester.builder().failureMode(FailureMode.COLLECT_ALL).build();
+		// single exception with all the failures of the class
+		PojoException e = assertThrows(PojoException.class, () -> tester.testAll(TwoBugs.class));
+		assertEquals(new HashSet<>(Arrays.asList("TwoBugs.A", "TwoBugs.C")), propertyNames(e.getFailures()));
+		// report with 1 line for each failure
+		assertEquals(3, e.getMessage().split("\n").length);
+	}
+
+	@Test
+	public void testInvalidWithoutStackTrace() {
+		PojoUnitTester tester = PojoUnitTester.builder().stackTraces(false).build();
+		PojoException e = assertThrows(PojoException.class, () -> tester.testAll(Invalid.class));
+		assertEquals(Invalid.class, e.getTestedClass());
+		assertEquals("Name", e.getPropertyName());
+		assertEquals(0, e.getStackTrace().length);
+		// with stack trace by default
+		assertTrue(assertThrows(PojoException.class, () -> new PojoUnitTester().testAll(Invalid.class)).getStackTrace().length > 0);
+	}
+
+	@Test
+	public void testExceptionSerialized() throws Exception {
+		PojoException e = assertThrows(PojoException.class, () -> new PojoUnitTester().testAll(Invalid.class));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream(bytes) ) {
+			out.writeObject(e);
+		}
+		try ( ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())) ) {
+			PojoException copy = (PojoException) in.readObject();
+			// the failure is not serialized, the formatted message is kept
+			assertEquals(e.getMessage(), copy.getMessage());
+			assertNull(copy.getTestedClass());
+			assertTrue(copy.getFailures().isEmpty());
+		}
+	}
+}
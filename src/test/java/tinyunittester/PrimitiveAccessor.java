@@ -0,0 +1,146 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Primitive fast path for a property with a primitive type (int, long, boolean, double, etc) <br>
+ * The setter and the getter are bound to exact-typed method handles and the sample value is kept
+ * as raw bits, so a set/get/compare round-trip doesn't box anything <br>
+ * 'float' and 'double' values are compared like 'Float.equals' and 'Double.equals'
+ * (NaN is equal to NaN, -0.0 is not equal to 0.0)
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class PrimitiveAccessor {
+
+	private final char kind; // descriptor of the primitive type ('I', 'J', 'Z', etc)
+	private final long bits; // raw value
+	private final Object value; // boxed value (for messages)
+	private final MethodHandle setter; // (Object, primitive)void
+	private final MethodHandle getter; // (Object)primitive or null
+
+	private PrimitiveAccessor(char kind, Object value, MethodHandle setter, MethodHandle getter) {
+		super();
+		this.kind = kind;
+		this.value = value;
+		this.bits = toBits(kind, value);
+		this.setter = setter;
+		this.getter = getter;
+	}
+
+	/**
+	 * Returns the fast path for the given accessors or null if the property is not eligible
+	 * (not a primitive type, getter with another type, no value, accessors not accessible)
+	 * @param setter
+	 * @param getter
+	 * @param value the sample value (boxed)
+	 * @return
+	 */
+	static PrimitiveAccessor bind(Method setter, Method getter, Object value) {
+		Class<?> type = setter.getParameterTypes()[0];
+		if ( ! type.isPrimitive() || value == null
+				|| ( getter != null && getter.getReturnType() != type ) ) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(setter.getDeclaringClass(), MethodHandles.lookup());
+			MethodHandle setterHandle = lookup.unreflect(setter)
+					.asType(MethodType.methodType(void.class, Object.class, type));
+			MethodHandle getterHandle = null;
+			if ( getter != null ) {
+				getterHandle = MethodHandles.privateLookupIn(getter.getDeclaringClass(), MethodHandles.lookup())
+						.unreflect(getter)
+						.asType(MethodType.methodType(type, Object.class));
+			}
+			return new PrimitiveAccessor(descriptor(type), value, setterHandle, getterHandle);
+		} catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static char descriptor(Class<?> type) {
+		return MethodType.methodType(type).toMethodDescriptorString().charAt(2); // "()I"
+	}
+
+	private static long toBits(char kind, Object value) {
+		switch (kind) {
+		case 'Z': return ((Boolean) value) ? 1 : 0;
+		case 'C': return ((Character) value).charValue();
+		case 'F': return Float.floatToRawIntBits(((Float) value).floatValue());
+		case 'D': return Double.doubleToRawLongBits(((Double) value).doubleValue());
+		default: return ((Number) value).longValue(); // 'B', 'S', 'I', 'J'
+		}
+	}
+
+	/**
+	 * Returns the sample value (boxed)
+	 * @return
+	 */
+	Object getValue() {
+		return value;
+	}
+
+	/**
+	 * Calls the setter with the sample value <br>
+	 * Any exception thrown by the setter is propagated
+	 * @param instance
+	 */
+	void set(Object instance) {
+		try {
+			switch (kind) {
+			case 'Z': setter.invokeExact(instance, bits != 0); break;
+			case 'B': setter.invokeExact(instance, (byte) bits); break;
+			case 'S': setter.invokeExact(instance, (short) bits); break;
+			case 'C': setter.invokeExact(instance, (char) bits); break;
+			case 'I': setter.invokeExact(instance, (int) bits); break;
+			case 'J': setter.invokeExact(instance, bits); break;
+			case 'F': setter.invokeExact(instance, Float.intBitsToFloat((int) bits)); break;
+			case 'D': setter.invokeExact(instance, Double.longBitsToDouble(bits)); break;
+			default: throw new IllegalStateException("Unexpected primitive type '" + kind + "'");
+			}
+		} catch (Throwable e) {
+			throw AccessorBinder.<RuntimeException>sneakyThrow(e);
+		}
+	}
+
+	/**
+	 * Calls the getter and compares the result with the sample value <br>
+	 * Any exception thrown by the getter is propagated
+	 * @param instance
+	 * @return true if the getter returns the sample value
+	 */
+	boolean getAndCompare(Object instance) {
+		try {
+			switch (kind) {
+			case 'Z': return ( (boolean) getter.invokeExact(instance) ) == ( bits != 0 );
+			case 'B': return ( (byte) getter.invokeExact(instance) ) == (byte) bits;
+			case 'S': return ( (short) getter.invokeExact(instance) ) == (short) bits;
+			case 'C': return ( (char) getter.invokeExact(instance) ) == (char) bits;
+			case 'I': return ( (int) getter.invokeExact(instance) ) == (int) bits;
+			case 'J': return ( (long) getter.invokeExact(instance) ) == bits;
+			case 'F': return Float.floatToIntBits( (float) getter.invokeExact(instance) )
+					== Float.floatToIntBits(Float.intBitsToFloat((int) bits));
+			case 'D': return Double.doubleToLongBits( (double) getter.invokeExact(instance) )
+					== Double.doubleToLongBits(Double.longBitsToDouble(bits));
+			default: throw new IllegalStateException("Unexpected primitive type '" + kind + "'");
+			}
+		} catch (Throwable e) {
+			throw AccessorBinder.<RuntimeException>sneakyThrow(e);
+		}
+	}
+}
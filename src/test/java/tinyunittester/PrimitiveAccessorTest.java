@@ -0,0 +1,102 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+public class PrimitiveAccessorTest {
+
+	/**
+	 * Getters changing the sign of zero and the NaN bits
+	 */
+	public static class Measure {
+		private double value;
+		private float ratio;
+		private int count;
+
+		public double getValue() {
+			return value == 0.0 ? 0.0 : value; // -0.0 => 0.0
+		}
+		public void setValue(double value) {
+			this.value = value;
+		}
+		public float getRatio() {
+			return Float.isNaN(ratio) ? Float.intBitsToFloat(0x7fc00001) : ratio; // another NaN
+		}
+		public void setRatio(float ratio) {
+			this.ratio = ratio;
+		}
+		public long getCount() {
+			return count;
+		}
+		public void setCount(int count) {
+			this.count = count;
+		}
+	}
+
+	private static PrimitiveAccessor bind(String name, Class<?> type, Object value) throws NoSuchMethodException {
+		return PrimitiveAccessor.bind(Measure.class.getMethod("set" + name, type), Measure.class.getMethod("get" + name), value);
+	}
+
+	@Test
+	public void testDoubleComparedAsDoubleEquals() throws Exception {
+		for (double value : new double[] { Double.NaN, -0.0, 0.0, 12345.6789, Double.NEGATIVE_INFINITY }) {
+			PrimitiveAccessor accessor = bind("Value", double.class, value);
+			assertNotNull(accessor);
+			Measure measure = new Measure();
+			accessor.set(measure);
+			// same result as the boxed comparison
+			boolean expected = Double.valueOf(value).equals(Double.valueOf(measure.getValue()));
+			assertEquals(expected, accessor.getAndCompare(measure), Double.toString(value));
+		}
+		Measure measure = new Measure();
+		PrimitiveAccessor negativeZero = bind("Value", double.class, -0.0);
+		negativeZero.set(measure);
+		assertFalse(negativeZero.getAndCompare(measure)); // -0.0 is not 0.0
+		PrimitiveAccessor nan = bind("Value", double.class, Double.NaN);
+		nan.set(measure);
+		assertTrue(nan.getAndCompare(measure)); // NaN is NaN
+	}
+
+	@Test
+	public void testFloatComparedAsFloatEquals() throws Exception {
+		for (float value : new float[] { Float.NaN, -0.0F, 0.0F, 123.45F }) {
+			PrimitiveAccessor accessor = bind("Ratio", float.class, value);
+			Measure measure = new Measure();
+			accessor.set(measure);
+			boolean expected = Float.valueOf(value).equals(Float.valueOf(measure.getRatio()));
+			assertEquals(expected, accessor.getAndCompare(measure), Float.toString(value));
+		}
+		// NaN with other bits is still NaN
+		Measure measure = new Measure();
+		PrimitiveAccessor nan = bind("Ratio", float.class, Float.NaN);
+		nan.set(measure);
+		assertTrue(nan.getAndCompare(measure));
+	}
+
+	@Test
+	public void testNotEligible() throws Exception {
+		// getter with another type : boxed comparison
+		assertNull(bind("Count", int.class, 12345));
+		Method setter = Measure.class.getMethod("setValue", double.class);
+		assertNull(PrimitiveAccessor.bind(setter, null, null));
+		assertNotNull(PrimitiveAccessor.bind(setter, null, 1.0));
+	}
+}
@@ -0,0 +1,155 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Immutable description of a single property : setter, getter (if any), parameter type
+ * and the value generator chosen for this type <br>
+ * The setter and the getter are bound once (see AccessorBinder) and invoked without reflection
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PropertyAccessor {
+
+	private final String name;
+	private final Method setter;
+	private final Method getter;
+	private final Class<?> type;
+	private final ValueGenerator generator;
+	private final boolean immutableValue;
+	private final long valueKey; // random source of the values (see 'ValueContext.derive')
+	private final BiConsumer<Object, Object> setterInvoker;
+	private final Function<Object, Object> getterInvoker;
+	private final PrimitiveAccessor primitiveAccessor;
+	private volatile Boolean trivial; // computed on first use (bytecode)
+
+	PropertyAccessor(String name, Method setter, Method getter, ValueGenerator generator) {
+		super();
+		this.name = name;
+		this.setter = setter;
+		this.getter = getter;
+		this.type = setter.getParameterTypes()[0];
+		this.generator = generator;
+		this.immutableValue = generator.isImmutable(type);
+		this.valueKey = ValueContext.key(setter.getDeclaringClass().getName() + "." + name);
+		this.setterInvoker = AccessorBinder.bindSetter(setter);
+		this.getterInvoker = getter != null ? AccessorBinder.bindGetter(getter) : null;
+		// primitive fast path only with the built-in primitive values (constants)
+		this.primitiveAccessor = generator instanceof BuiltInGenerators.LangGenerator
+				? PrimitiveAccessor.bind(setter, getter, generator.generate(type)) : null;
+	}
+
+	/**
+	 * Returns the property name (setter name without 'set' prefix)
+	 * @return
+	 */
+	public String getName() {
+		return name;
+	}
+
+	public Method getSetter() {
+		return setter;
+	}
+
+	/**
+	 * Returns the getter associated with the setter or null if none
+	 * @return
+	 */
+	public Method getGetter() {
+		return getter;
+	}
+
+	public boolean hasGetter() {
+		return getter != null;
+	}
+
+	/**
+	 * Returns the type of the setter parameter
+	 * @return
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Returns a new value for this property (using the generator chosen for the type) <br>
+	 * The random values depend only on the context seed, the class and the property (not on the thread) :
+	 * the values are fixed for a property, each call generates the same value (eg the same UUID)
+	 * with a new context derived for this call (no state shared between the threads)
+	 * @param context
+	 * @return
+	 */
+	public Object newValue(ValueContext context) {
+		return generator.generate(type, context.derive(valueKey));
+	}
+
+	/**
+	 * Returns true if the values generated for this property are immutable (can be shared)
+	 * @return
+	 */
+	public boolean isImmutableValue() {
+		return immutableValue;
+	}
+
+	/**
+	 * Invokes the setter on the given instance <br>
+	 * Any exception thrown by the setter is propagated
+	 * @param instance
+	 * @param value
+	 */
+	public void set(Object instance, Object value) {
+		setterInvoker.accept(instance, value);
+	}
+
+	/**
+	 * Invokes the getter on the given instance <br>
+	 * Any exception thrown by the getter is propagated
+	 * @param instance
+	 * @return
+	 */
+	public Object get(Object instance) {
+		return getterInvoker.apply(instance);
+	}
+
+	/**
+	 * Returns true if the setter and the getter are trivial accessors of the same field
+	 * ('this.x = x' and 'return this.x'), checked in the bytecode without invocation <br>
+	 * Such a property can be certified without being tested
+	 * @return
+	 */
+	public boolean isTrivial() {
+		Boolean result = trivial;
+		if ( result == null ) {
+			result = TrivialAccessors.isTrivialPair(this);
+			trivial = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the primitive fast path or null if none
+	 * @return
+	 */
+	PrimitiveAccessor getPrimitiveAccessor() {
+		return primitiveAccessor;
+	}
+
+	@Override
+	public String toString() {
+		return name + " (" + type.getSimpleName() + ")";
+	}
+}
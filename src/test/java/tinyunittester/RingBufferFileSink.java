@@ -0,0 +1,321 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous log sink writing to a file <br>
+ * The messages are put in a lock-free ring buffer (multiple producers) and a single background thread
+ * writes them by batches in the file through a 'FileChannel' and a direct buffer <br>
+ * When the ring buffer is full the producer waits ('BLOCK') or the message is lost ('DROP') <br>
+ * The sink must be closed to write the last messages <br>
+ * If the file cannot be written the sink fails : the following messages are lost (no more back-pressure)
+ * and the error is thrown by 'close' <br>
+ * A malformed message (eg a lone surrogate) is written with '?' for the invalid characters
+ *
+ * @author Laurent Guerin
+ *
+ */
+public class RingBufferFileSink implements LogSink, Closeable {
+
+	/**
+	 * What to do when the ring buffer is full
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Wait for a free slot (back-pressure on the tester threads)
+		 */
+		BLOCK,
+		/**
+		 * Drop the message (see 'getLostCount')
+		 */
+		DROP
+	}
+
+	public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+	private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+	private static final int CHAR_BUFFER_SIZE = 4 * 1024;
+	private static final long IDLE_PARK_NANOS = 100_000L;
+	private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+	private final int mask;
+	private final String[] messages;
+	private final LogLevel[] levels;
+	private final AtomicLongArray sequences; // slot 'i' is free for position 'p' if sequence == p, ready if sequence == p + 1
+	private final AtomicLong tail = new AtomicLong(); // next position for the producers
+	private long head = 0; // next position for the writer (writer thread only)
+
+	private final OverflowPolicy overflowPolicy;
+	private final AtomicLong lost = new AtomicLong();
+	private final AtomicInteger claims = new AtomicInteger(); // producers between the 'closed' check and the publication
+	private int buffered = 0; // messages in the write buffer (writer thread only)
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+	private final CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE); // reused for all the messages (writer thread only)
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	private final Thread writer;
+	private volatile boolean closed = false;
+	private volatile IOException writeError = null;
+
+	/**
+	 * Constructor with default capacity and 'BLOCK' policy
+	 * @param file
+	 * @throws IOException
+	 */
+	public RingBufferFileSink(Path file) throws IOException {
+		this(file, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Constructor
+	 * @param file the file (created or truncated)
+	 * @param capacity number of messages in the ring buffer (rounded to a power of 2)
+	 * @param overflowPolicy
+	 * @throws IOException
+	 */
+	public RingBufferFileSink(Path file, int capacity, OverflowPolicy overflowPolicy) throws IOException {
+		this(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING), capacity, overflowPolicy);
+	}
+
+	/**
+	 * Constructor with an opened channel
+	 * @param channel
+	 * @param capacity
+	 * @param overflowPolicy
+	 */
+	RingBufferFileSink(FileChannel channel, int capacity, OverflowPolicy overflowPolicy) {
+		super();
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		this.mask = size - 1;
+		this.messages = new String[size];
+		this.levels = new LogLevel[size];
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0 ; i < size ; i++) {
+			sequences.set(i, i);
+		}
+		this.overflowPolicy = overflowPolicy;
+		this.channel = channel;
+		this.writer = new Thread(this::writeLoop, "pojo-tester-log-writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	@Override
+	public void write(LogLevel level, String message) {
+		// the claim is taken before the 'closed' check : the writer waits for all the claims before its last drain
+		claims.incrementAndGet();
+		try {
+			while ( true ) {
+				if ( closed || writeError != null ) {
+					lost.incrementAndGet();
+					return;
+				}
+				long position = tail.get();
+				int index = (int) position & mask;
+				long diff = sequences.get(index) - position;
+				if ( diff == 0 ) {
+					if ( tail.compareAndSet(position, position + 1) ) {
+						messages[index] = message;
+						levels[index] = level;
+						sequences.set(index, position + 1); // publish
+						return;
+					}
+				}
+				else if ( diff < 0 ) { // full
+					if ( overflowPolicy == OverflowPolicy.DROP ) {
+						lost.incrementAndGet();
+						return;
+					}
+					Thread.yield(); // wait for the writer
+					LockSupport.unpark(writer);
+				}
+				// else : another producer took this position => retry
+			}
+		} finally {
+			claims.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of messages lost (ring buffer full with 'DROP' policy, sink closed or failed)
+	 * @return
+	 */
+	public long getLostCount() {
+		return lost.get();
+	}
+
+	/**
+	 * Returns true if the writer thread has stopped on a write error
+	 * @return
+	 */
+	public boolean isFailed() {
+		return writeError != null;
+	}
+
+	/**
+	 * Writes all the pending messages, stops the writer thread and closes the file
+	 */
+	@Override
+	public void close() throws IOException {
+		if ( ! closed ) {
+			closed = true;
+			LockSupport.unpark(writer);
+			try {
+				writer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			channel.close();
+		}
+		if ( writeError != null ) {
+			throw writeError;
+		}
+	}
+
+	private void writeLoop() {
+		try {
+			while ( true ) {
+				int count = drain();
+				if ( count == 0 ) {
+					writeBuffer();
+					if ( closed ) {
+						// last drain when no producer can publish anymore
+						awaitClaims();
+						drain();
+						writeBuffer();
+						return;
+					}
+					LockSupport.parkNanos(IDLE_PARK_NANOS);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			// the producers now drop their messages
+			writeError = e instanceof IOException ? (IOException) e : new IOException(e);
+			awaitClaims();
+			lost.addAndGet(buffered + ( tail.get() - head )); // not written
+		}
+	}
+
+	private void awaitClaims() {
+		while ( claims.get() != 0 ) {
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Moves the published messages from the ring buffer to the write buffer
+	 * @return number of messages
+	 * @throws IOException
+	 */
+	private int drain() throws IOException {
+		int count = 0;
+		while ( true ) {
+			int index = (int) head & mask;
+			if ( sequences.get(index) != head + 1 ) {
+				return count;
+			}
+			String message = messages[index];
+			LogLevel level = levels[index];
+			messages[index] = null;
+			levels[index] = null;
+			sequences.set(index, head + mask + 1); // free for the next round
+			head++;
+			buffered++;
+			encode(level.name());
+			encode(" ");
+			encode(message);
+			endLine();
+			ensureRemaining(LINE_SEPARATOR.length);
+			buffer.put(LINE_SEPARATOR);
+			count++;
+		}
+	}
+
+	/**
+	 * Encodes the string through the reused char buffer (copied by chunks)
+	 * @param s
+	 * @throws IOException
+	 */
+	private void encode(String s) throws IOException {
+		int length = s.length();
+		int offset = 0;
+		while ( offset < length ) {
+			int count = Math.min(chars.remaining(), length - offset);
+			s.getChars(offset, offset + count, chars.array(), chars.arrayOffset() + chars.position());
+			chars.position(chars.position() + count);
+			offset += count;
+			chars.flip();
+			encodeChars(false); // a high surrogate at the end of the chunk is kept for the next one
+			chars.compact();
+		}
+	}
+
+	/**
+	 * Encodes the remaining chars of the line (a lone high surrogate is replaced) and resets the encoder
+	 * @throws IOException
+	 */
+	private void endLine() throws IOException {
+		chars.flip();
+		encodeChars(true);
+		while ( encoder.flush(buffer).isOverflow() ) {
+			writeBuffer();
+		}
+		chars.clear();
+		encoder.reset();
+	}
+
+	private void encodeChars(boolean endOfInput) throws IOException {
+		while ( true ) {
+			CoderResult result = encoder.encode(chars, buffer, endOfInput);
+			if ( result.isOverflow() ) {
+				writeBuffer();
+			}
+			else {
+				break;
+			}
+		}
+	}
+
+	private void ensureRemaining(int size) throws IOException {
+		if ( buffer.remaining() < size ) {
+			writeBuffer();
+		}
+	}
+
+	private void writeBuffer() throws IOException {
+		buffer.flip();
+		while ( buffer.hasRemaining() ) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+		buffered = 0;
+	}
+}
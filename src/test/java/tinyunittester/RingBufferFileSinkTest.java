@@ -0,0 +1,152 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tinyunittester.RingBufferFileSink.OverflowPolicy;
+
+public class RingBufferFileSinkTest {
+
+	private static final int THREADS = 4;
+	private static final int MESSAGES = 20_000;
+
+	private static List<Thread> startProducers(RingBufferFileSink sink, int threads, int messages) {
+		List<Thread> producers = new ArrayList<>();
+		for (int t = 0 ; t < threads ; t++) {
+			String prefix = "thread-" + t + " message-";
+			Thread producer = new Thread(() -> {
+				for (int i = 0 ; i < messages ; i++) {
+					sink.write(LogLevel.TRACE, prefix + i);
+				}
+			});
+			producer.start();
+			producers.add(producer);
+		}
+		return producers;
+	}
+
+	private static void join(List<Thread> producers) throws InterruptedException {
+		for (Thread producer : producers) {
+			producer.join(30_000);
+			assertFalse(producer.isAlive(), "producer blocked");
+		}
+	}
+
+	@Test
+	public void testDrainOnClose(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("trace.log");
+		RingBufferFileSink sink = new RingBufferFileSink(file);
+		for (int i = 0 ; i < 1000 ; i++) {
+			sink.write(LogLevel.TRACE, "message-" + i);
+		}
+		sink.close();
+		List<String> lines = Files.readAllLines(file);
+		assertEquals(1000, lines.size());
+		assertEquals("TRACE message-0", lines.get(0));
+		assertEquals("TRACE message-999", lines.get(999));
+		assertEquals(0, sink.getLostCount());
+	}
+
+	@Test
+	public void testMalformedMessage(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("trace.log");
+		RingBufferFileSink sink = new RingBufferFileSink(file);
+		// lone surrogates : replaced, the line is complete
+		sink.write(LogLevel.TRACE, "a\uD800b");
+		sink.write(LogLevel.TRACE, "c\uDC00");
+		sink.write(LogLevel.TRACE, "d\uD800");
+		sink.write(LogLevel.TRACE, "next");
+		sink.close();
+		assertEquals(Arrays.asList("TRACE a?b", "TRACE c?", "TRACE d?", "TRACE next"), Files.readAllLines(file));
+		assertEquals(0, sink.getLostCount());
+	}
+
+	@Test
+	public void testLongMessage(@TempDir Path dir) throws Exception {
+		// longer than the char buffer, with surrogate pairs across the chunks
+		StringBuilder sb = new StringBuilder("x");
+		for (int i = 0 ; i < 50_000 ; i++) {
+			sb.append("\uD83D\uDE00\u00E9");
+		}
+		String message = sb.toString();
+		Path file = dir.resolve("trace.log");
+		RingBufferFileSink sink = new RingBufferFileSink(file);
+		sink.write(LogLevel.TRACE, message);
+		sink.write(LogLevel.TRACE, message);
+		sink.close();
+		assertEquals(Arrays.asList("TRACE " + message, "TRACE " + message), Files.readAllLines(file, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testBlockBackPressure(@TempDir Path dir) throws Exception {
+		// small ring buffer : the producers wait for the writer, no message lost
+		Path file = dir.resolve("trace.log");
+		RingBufferFileSink sink = new RingBufferFileSink(file, 16, OverflowPolicy.BLOCK);
+		join(startProducers(sink, THREADS, MESSAGES));
+		sink.close();
+		assertEquals(THREADS * MESSAGES, Files.readAllLines(file).size());
+		assertEquals(0, sink.getLostCount());
+	}
+
+	@Test
+	public void testDropAccounting(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("trace.log");
+		RingBufferFileSink sink = new RingBufferFileSink(file, 16, OverflowPolicy.DROP);
+		join(startProducers(sink, THREADS, MESSAGES));
+		sink.close();
+		// each message is either written or counted as lost
+		assertEquals(THREADS * MESSAGES, Files.readAllLines(file).size() + sink.getLostCount());
+	}
+
+	@Test
+	public void testCloseWhileWriting(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("trace.log");
+		RingBufferFileSink sink = new RingBufferFileSink(file, 16, OverflowPolicy.BLOCK);
+		List<Thread> producers = startProducers(sink, THREADS, MESSAGES);
+		Thread.sleep(5);
+		sink.close();
+		join(producers);
+		// a message published during 'close' is written, a message after 'close' is lost
+		assertEquals(THREADS * MESSAGES, Files.readAllLines(file).size() + sink.getLostCount());
+		sink.write(LogLevel.TRACE, "after close");
+		assertEquals(THREADS * MESSAGES + 1, Files.readAllLines(file).size() + sink.getLostCount());
+	}
+
+	@Test
+	public void testWriterFailure(@TempDir Path dir) throws Exception {
+		FileChannel channel = FileChannel.open(dir.resolve("trace.log"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		RingBufferFileSink sink = new RingBufferFileSink(channel, 16, OverflowPolicy.BLOCK);
+		channel.close(); // all the writes fail
+		// the producers are not blocked by the failed writer
+		join(startProducers(sink, THREADS, MESSAGES));
+		assertThrows(IOException.class, sink::close);
+		assertTrue(sink.isFailed());
+		assertEquals(THREADS * MESSAGES, sink.getLostCount());
+	}
+}
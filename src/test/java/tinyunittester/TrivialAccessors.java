@@ -0,0 +1,274 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import tinyunittester.scan.ClassFileReader;
+
+/**
+ * Static verification of the accessors from the bytecode (class file read with 'ClassFileReader') <br>
+ * A trivial getter is 'return this.x' : aload_0, getfield, xreturn <br>
+ * A trivial setter is 'this.x = x' : aload_0, xload_1, putfield, return <br>
+ * A trivial setter and a trivial getter on the same field (with the same type) are certified without invocation :
+ * the getter always returns the value given to the setter <br>
+ * The class files are read once per class (only the trivial accessors are kept)
+ * and a class without class file (eg defined in memory) is never certified
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class TrivialAccessors {
+
+	private static final int ACC_STATIC = 0x0008;
+
+	// opcodes
+	private static final int ALOAD_0 = 0x2a;
+	private static final int ILOAD_1 = 0x1b;
+	private static final int LLOAD_1 = 0x1f;
+	private static final int FLOAD_1 = 0x23;
+	private static final int DLOAD_1 = 0x27;
+	private static final int ALOAD_1 = 0x2b;
+	private static final int IRETURN = 0xac;
+	private static final int LRETURN = 0xad;
+	private static final int FRETURN = 0xae;
+	private static final int DRETURN = 0xaf;
+	private static final int ARETURN = 0xb0;
+	private static final int RETURN = 0xb1;
+	private static final int GETFIELD = 0xb4;
+	private static final int PUTFIELD = 0xb5;
+
+	private static final byte[] CODE = "Code".getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Field accessed by a trivial accessor
+	 */
+	private static final class FieldAccess {
+		private final boolean write;
+		private final String owner; // class name of the field reference (eg 'org.demo.pojo.Employee')
+		private final String name;
+		private final String descriptor;
+
+		FieldAccess(boolean write, String owner, String name, String descriptor) {
+			this.write = write;
+			this.owner = owner;
+			this.name = name;
+			this.descriptor = descriptor;
+		}
+	}
+
+	/**
+	 * Trivial accessors declared in each class (key : method name + descriptor)
+	 */
+	private static final ClassValue<Map<String, FieldAccess>> ACCESSORS = new ClassValue<Map<String, FieldAccess>>() {
+		@Override
+		protected Map<String, FieldAccess> computeValue(Class<?> clazz) {
+			return readTrivialAccessors(clazz);
+		}
+	};
+
+	private TrivialAccessors() {
+	}
+
+	/**
+	 * Returns true if the setter and the getter of the property are trivial accessors of the same field
+	 * @param property
+	 * @return
+	 */
+	static boolean isTrivialPair(PropertyAccessor property) {
+		Method setter = property.getSetter();
+		Method getter = property.getGetter();
+		if ( getter == null ) {
+			return false;
+		}
+		FieldAccess write = ACCESSORS.get(setter.getDeclaringClass()).get(key(setter));
+		FieldAccess read = ACCESSORS.get(getter.getDeclaringClass()).get(key(getter));
+		if ( write == null || ! write.write || read == null || read.write
+				|| ! write.name.equals(read.name) || ! write.descriptor.equals(read.descriptor) ) {
+			return false;
+		}
+		// same type for the setter parameter, the field and the getter result (no conversion)
+		String fieldType = write.descriptor;
+		if ( ! fieldType.equals(descriptor(setter.getParameterTypes()[0]))
+				|| ! fieldType.equals(descriptor(getter.getReturnType())) ) {
+			return false;
+		}
+		// same field (the reference can be qualified by a sub-class)
+		Field writtenField = resolveField(setter.getDeclaringClass(), write);
+		return writtenField != null && writtenField.equals(resolveField(getter.getDeclaringClass(), read));
+	}
+
+	private static String key(Method method) {
+		return method.getName() + MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+	}
+
+	private static String descriptor(Class<?> type) {
+		return MethodType.methodType(type).toMethodDescriptorString().substring(2); // "()X" => "X"
+	}
+
+	/**
+	 * Returns the field referenced by the accessor declared in the given class (or null if not found)
+	 * @param declaringClass
+	 * @param access
+	 * @return
+	 */
+	private static Field resolveField(Class<?> declaringClass, FieldAccess access) {
+		Class<?> c = declaringClass;
+		while ( c != null && ! c.getName().equals(access.owner) ) {
+			c = c.getSuperclass();
+		}
+		// search the field from the class of the reference
+		for ( ; c != null ; c = c.getSuperclass() ) {
+			try {
+				return c.getDeclaredField(access.name);
+			} catch (NoSuchFieldException e) {
+				// continue with the super class
+			} catch (SecurityException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the class file and returns the trivial accessors (empty if no class file)
+	 * @param clazz
+	 * @return
+	 */
+	private static Map<String, FieldAccess> readTrivialAccessors(Class<?> clazz) {
+		String name = clazz.getName();
+		try ( InputStream in = clazz.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class") ) {
+			if ( in == null ) {
+				return Collections.emptyMap();
+			}
+			return read(new ClassFileReader(ByteBuffer.wrap(in.readAllBytes())));
+		} catch (IOException | RuntimeException e) {
+			return Collections.emptyMap(); // not certified => dynamic test
+		}
+	}
+
+	/**
+	 * Reads the methods of the class file : trivial accessors found in the 'Code' attributes
+	 * @param reader
+	 * @return
+	 */
+	private static Map<String, FieldAccess> read(ClassFileReader reader) {
+		reader.skip(6); // access flags, this class, super class
+		reader.skipInterfacesAndFields();
+		Map<String, FieldAccess> accessors = new HashMap<>();
+		int methodCount = reader.u2();
+		for (int i = 0 ; i < methodCount ; i++) {
+			int access = reader.u2();
+			int nameIndex = reader.u2();
+			int descriptorIndex = reader.u2();
+			int attributeCount = reader.u2();
+			for (int k = 0 ; k < attributeCount ; k++) {
+				int attributeName = reader.u2();
+				int length = reader.u4();
+				int end = reader.position() + length;
+				if ( ( access & ACC_STATIC ) == 0 && reader.utf8Equals(attributeName, CODE) ) {
+					FieldAccess fieldAccess = readCode(reader);
+					if ( fieldAccess != null ) {
+						accessors.put(reader.utf8(nameIndex) + reader.utf8(descriptorIndex), fieldAccess);
+					}
+				}
+				reader.position(end);
+			}
+		}
+		return accessors.isEmpty() ? Collections.emptyMap() : accessors;
+	}
+
+	/**
+	 * Reads a 'Code' attribute and returns the field access if the code is a trivial accessor
+	 * @param reader
+	 * @return
+	 */
+	private static FieldAccess readCode(ClassFileReader reader) {
+		reader.skip(4); // max stack, max locals
+		int length = reader.u4();
+		int start = reader.position();
+		if ( length == 5 ) {
+			// aload_0, getfield #index, xreturn
+			if ( reader.u1(start) == ALOAD_0 && reader.u1(start + 1) == GETFIELD && isReturn(reader.u1(start + 4)) ) {
+				return fieldAccess(reader, false, reader.u2(start + 2), reader.u1(start + 4));
+			}
+		}
+		else if ( length == 6 ) {
+			// aload_0, xload_1, putfield #index, return
+			if ( reader.u1(start) == ALOAD_0 && isLoad(reader.u1(start + 1))
+					&& reader.u1(start + 2) == PUTFIELD && reader.u1(start + 5) == RETURN ) {
+				return fieldAccess(reader, true, reader.u2(start + 3), reader.u1(start + 1));
+			}
+		}
+		return null;
+	}
+
+	private static FieldAccess fieldAccess(ClassFileReader reader, boolean write, int fieldrefIndex, int opcode) {
+		int fieldref = reader.entry(fieldrefIndex, ClassFileReader.CONSTANT_FIELDREF);
+		int nameAndType = reader.entry(reader.u2(fieldref + 2), ClassFileReader.CONSTANT_NAME_AND_TYPE);
+		String owner = reader.className(reader.u2(fieldref));
+		String name = reader.utf8(reader.u2(nameAndType));
+		String descriptor = reader.utf8(reader.u2(nameAndType + 2));
+		// the load/return opcode must match the field type
+		if ( opcodeKind(opcode) != descriptorKind(descriptor) ) {
+			return null;
+		}
+		return new FieldAccess(write, owner, name, descriptor);
+	}
+
+	private static boolean isLoad(int opcode) {
+		return opcode == ILOAD_1 || opcode == LLOAD_1 || opcode == FLOAD_1 || opcode == DLOAD_1 || opcode == ALOAD_1;
+	}
+
+	private static boolean isReturn(int opcode) {
+		return opcode >= IRETURN && opcode <= ARETURN;
+	}
+
+	/**
+	 * Returns the kind of value handled by a load/return opcode : 'I', 'J', 'F', 'D' or 'L' (reference)
+	 * @param opcode
+	 * @return
+	 */
+	private static char opcodeKind(int opcode) {
+		switch (opcode) {
+		case ILOAD_1 : case IRETURN : return 'I';
+		case LLOAD_1 : case LRETURN : return 'J';
+		case FLOAD_1 : case FRETURN : return 'F';
+		case DLOAD_1 : case DRETURN : return 'D';
+		default : return 'L';
+		}
+	}
+
+	/**
+	 * Returns the kind of value for a field descriptor (boolean, byte, char, short and int are 'I')
+	 * @param descriptor
+	 * @return
+	 */
+	private static char descriptorKind(String descriptor) {
+		switch (descriptor.charAt(0)) {
+		case 'Z' : case 'B' : case 'C' : case 'S' : case 'I' : return 'I';
+		case 'J' : return 'J';
+		case 'F' : return 'F';
+		case 'D' : return 'D';
+		default : return 'L';
+		}
+	}
+}
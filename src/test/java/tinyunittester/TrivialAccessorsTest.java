@@ -0,0 +1,222 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Imbalance;
+import org.demo.pojo.Invalid;
+import org.junit.jupiter.api.Test;
+
+import tinyunittester.PojoUnitTester.PojoException;
+import tinyunittester.corpus.PojoCorpus;
+import tinyunittester.corpus.PojoCorpusGenerator;
+
+public class TrivialAccessorsTest {
+
+	public static class AllTypes {
+		private int i;
+		private long l;
+		private float f;
+		private double d;
+		private boolean z;
+		private char c;
+		private String s;
+		private int[] array;
+		public int getI() {
+			return i;
+		}
+		public void setI(int i) {
+			this.i = i;
+		}
+		public long getL() {
+			return l;
+		}
+		public void setL(long l) {
+			this.l = l;
+		}
+		public float getF() {
+			return f;
+		}
+		public void setF(float f) {
+			this.f = f;
+		}
+		public double getD() {
+			return d;
+		}
+		public void setD(double d) {
+			this.d = d;
+		}
+		public boolean isZ() {
+			return z;
+		}
+		public void setZ(boolean z) {
+			this.z = z;
+		}
+		public char getC() {
+			return c;
+		}
+		public void setC(char c) {
+			this.c = c;
+		}
+		public String getS() {
+			return s;
+		}
+		public void setS(String s) {
+			this.s = s;
+		}
+		public int[] getArray() {
+			return array;
+		}
+		public void setArray(int[] array) {
+			this.array = array;
+		}
+	}
+
+	public static class NotTrivial {
+		private String trimmed;
+		private String a;
+		private String b;
+		private int widened;
+		private Integer checked;
+		private int onlySetter;
+		public String getTrimmed() {
+			return trimmed;
+		}
+		public void setTrimmed(String trimmed) {
+			this.trimmed = trimmed.trim();
+		}
+		public String getSwapped() { // other field
+			return b;
+		}
+		public void setSwapped(String a) {
+			this.a = a;
+		}
+		public long getWidened() { // conversion
+			return widened;
+		}
+		public void setWidened(int widened) {
+			this.widened = widened;
+		}
+		public Integer getChecked() {
+			return checked;
+		}
+		public void setChecked(Integer checked) {
+			this.checked = checked != null ? checked : 0;
+		}
+		public void setOnlySetter(int onlySetter) { // no getter
+			this.onlySetter = onlySetter;
+		}
+		@Override
+		public String toString() {
+			return a + onlySetter;
+		}
+	}
+
+	public static class Base {
+		protected int x;
+		public int getX() {
+			return x;
+		}
+		public void setX(int x) {
+			this.x = x;
+		}
+	}
+
+	public static class SubOverride extends Base {
+		@Override
+		public int getX() { // field reference qualified by the sub-class
+			return x;
+		}
+	}
+
+	public static class SubShadowing extends Base {
+		private int x; // other field with the same name
+		@Override
+		public int getX() {
+			return x;
+		}
+	}
+
+	private static Map<String, Boolean> trivialPairs(Class<?> clazz) {
+		Map<String, Boolean> map = new HashMap<>();
+		for (PropertyAccessor property : AccessorPlan.of(clazz).getProperties()) {
+			map.put(property.getName(), TrivialAccessors.isTrivialPair(property));
+		}
+		return map;
+	}
+
+	@Test
+	public void testAllTypes() {
+		Map<String, Boolean> pairs = trivialPairs(AllTypes.class);
+		assertEquals(8, pairs.size());
+		assertFalse(pairs.containsValue(false), pairs.toString());
+	}
+
+	@Test
+	public void testNotTrivial() {
+		Map<String, Boolean> pairs = trivialPairs(NotTrivial.class);
+		assertEquals(5, pairs.size());
+		assertFalse(pairs.containsValue(true), pairs.toString());
+	}
+
+	@Test
+	public void testInheritance() {
+		assertEquals(Boolean.TRUE, trivialPairs(Base.class).get("X"));
+		assertEquals(Boolean.TRUE, trivialPairs(SubOverride.class).get("X"));
+		// the getter reads another field than the field written by the setter
+		assertEquals(Boolean.FALSE, trivialPairs(SubShadowing.class).get("X"));
+		// => tested dynamically
+		assertThrows(PojoException.class, () -> PojoUnitTester.builder().staticVerification(true).build().testAll(SubShadowing.class));
+	}
+
+	@Test
+	public void testClassDefinedInMemory() {
+		// no class file => never certified (all the properties are tested dynamically)
+		PojoCorpus corpus = PojoCorpusGenerator.builder().classCount(5).propertyCount(10).build().generate();
+		for (Class<?> clazz : corpus.getClasses()) {
+			assertFalse(trivialPairs(clazz).containsValue(true), clazz.getName());
+		}
+	}
+
+	@Test
+	public void testStaticVerification() {
+		for (PropertyAccessor property : AccessorPlan.of(Invalid.class).getProperties()) {
+			// 'setName' is not trivial (BUG simulation)
+			assertEquals(! property.getName().equals("Name"), property.isTrivial());
+		}
+		PojoTestResult result = PojoUnitTester.builder().staticVerification(true).build()
+				.testAll(Employee.class, Imbalance.class, Invalid.class);
+		assertEquals(1, result.getFailures().size());
+		assertEquals(Invalid.class, result.getFailures().get(0).getTestedClass());
+		assertEquals("Name", result.getFailures().get(0).getPropertyName());
+	}
+
+	@Test
+	public void testSameFailuresAsDynamicTests() {
+		PojoCorpus corpus = PojoCorpusGenerator.builder().classCount(50).propertyCount(20).bugRate(0.3).build().generate();
+		PojoTestResult result = PojoUnitTester.builder().staticVerification(true).failureMode(FailureMode.COLLECT_ALL).build()
+				.testAll(corpus.getClasses());
+		Map<String, String> failures = new HashMap<>();
+		for (PojoFailure failure : result.getFailures()) {
+			failures.put(failure.getTestedClass().getName(), failure.getPropertyName());
+		}
+		assertEquals(corpus.getBuggyProperties(), failures);
+		assertEquals(50 * 20, result.getPropertyCount());
+	}
+}
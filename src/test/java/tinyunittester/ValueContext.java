@@ -0,0 +1,155 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Context used by the value generators : clock for date/time values and seeded random source <br>
+ * The tester uses a context derived for each property (random source derived from the seed, the class name
+ * and the property name), so the values don't depend on the threads or on the order of the tests
+ * and a run with the same seed and a fixed clock (see 'fixedClock') produces the same values <br>
+ * The random source of a context which is not derived is split from a root source for each thread
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class ValueContext {
+
+	/**
+	 * Default seed
+	 */
+	public static final long DEFAULT_SEED = 12345L;
+
+	/**
+	 * Instant of the fixed clock (UTC), the same for all the runs
+	 */
+	public static final Instant FIXED_INSTANT = Instant.ofEpochSecond(1579084200L); // 2020-01-15T10:30:00Z
+
+	private static final class DefaultHolder {
+		private static final ValueContext DEFAULT = new ValueContext(Clock.systemDefaultZone(), DEFAULT_SEED);
+	}
+
+	private final Clock clock;
+	private final long seed;
+	private final SplittableRandom root; // not derived context : split for each thread
+	private final ThreadLocal<SplittableRandom> threadRandom; // not derived context
+	private final long streamSeed; // derived context
+	private SplittableRandom random; // derived context (single thread), created on first use
+
+	/**
+	 * Constructor
+	 * @param clock clock used for all the date/time values
+	 * @param seed seed of the random source
+	 */
+	public ValueContext(Clock clock, long seed) {
+		super();
+		this.clock = clock;
+		this.seed = seed;
+		this.root = new SplittableRandom(seed);
+		this.threadRandom = ThreadLocal.withInitial(this::split);
+		this.streamSeed = seed;
+	}
+
+	private ValueContext(ValueContext parent, long streamSeed) {
+		super();
+		this.clock = parent.clock;
+		this.seed = parent.seed;
+		this.root = null;
+		this.threadRandom = null;
+		this.streamSeed = streamSeed;
+	}
+
+	private SplittableRandom split() {
+		synchronized (root) {
+			return root.split();
+		}
+	}
+
+	/**
+	 * Returns the default context : system clock and default seed
+	 * @return
+	 */
+	public static ValueContext getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * Returns a clock fixed at 'FIXED_INSTANT' (UTC) : the same date/time values for all the runs
+	 * @return
+	 */
+	public static Clock fixedClock() {
+		return Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC);
+	}
+
+	public Clock getClock() {
+		return clock;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns a context with the same clock and a random source derived from the seed and the given key
+	 * (see 'key') <br>
+	 * Each call returns a new context starting the same random stream (a key always gets the same values)
+	 * and a derived context must be used by a single thread
+	 * @param key
+	 * @return
+	 */
+	public ValueContext derive(long key) {
+		return new ValueContext(this, seed + key * 0x9E3779B97F4A7C15L);
+	}
+
+	/**
+	 * Returns a stable key for the given name (same value in all the JVMs)
+	 * @param name eg class name + property name
+	 * @return
+	 */
+	public static long key(String name) {
+		long h = 1125899906842597L;
+		for (int i = 0 ; i < name.length() ; i++) {
+			h = 31 * h + name.charAt(i);
+		}
+		return h;
+	}
+
+	/**
+	 * Returns the random source of this context (for the current thread if not derived)
+	 * @return
+	 */
+	public SplittableRandom random() {
+		if ( threadRandom != null ) {
+			return threadRandom.get();
+		}
+		if ( random == null ) {
+			random = new SplittableRandom(streamSeed);
+		}
+		return random;
+	}
+
+	/**
+	 * Returns a new random UUID (version 4) using the random source of this context
+	 * @return
+	 */
+	public UUID randomUUID() {
+		SplittableRandom r = random();
+		long mostSigBits = ( r.nextLong() & ~0xF000L ) | 0x4000L ; // version 4
+		long leastSigBits = ( r.nextLong() & 0x3FFFFFFFFFFFFFFFL ) | 0x8000000000000000L ; // IETF variant
+		return new UUID(mostSigBits, leastSigBits);
+	}
+}
@@ -0,0 +1,82 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.util.Set;
+
+/**
+ * Value generator SPI : provides the values used to call the setters <br>
+ * Implementations are found with 'ServiceLoader' (file 'META-INF/services/tinyunittester.ValueGenerator'),
+ * so the generators for specific types can be shipped in a separate jar. <br>
+ * If several generators support the same type, the one with the highest priority is used
+ * (for the same priority the last loaded wins, so a plug-in overrides a built-in generator)
+ *
+ * @author Laurent Guerin
+ *
+ */
+public interface ValueGenerator {
+
+	int DEFAULT_PRIORITY = 0;
+
+	/**
+	 * Returns the types supported by this generator (exact types)
+	 * @return
+	 */
+	Set<Class<?>> supportedTypes();
+
+	/**
+	 * Returns true if this generator is able to generate a value for the given type <br>
+	 * Called when the type is not registered but one of its super types is supported by this generator
+	 * (by default a generator only supports its exact types)
+	 * @param type
+	 * @return
+	 */
+	default boolean canGenerate(Class<?> type) {
+		return supportedTypes().contains(type);
+	}
+
+	/**
+	 * Returns true if the values generated for the given type are immutable <br>
+	 * (an immutable value can be created once and shared by all the classes and threads)
+	 * @param type
+	 * @return
+	 */
+	default boolean isImmutable(Class<?> type) {
+		return false;
+	}
+
+	/**
+	 * Returns the priority of this generator
+	 * @return
+	 */
+	default int priority() {
+		return DEFAULT_PRIORITY;
+	}
+
+	/**
+	 * Returns a value for the given type (one of the supported types or a type accepted by 'canGenerate')
+	 * @param type
+	 * @return
+	 */
+	Object generate(Class<?> type);
+
+	/**
+	 * Returns a value for the given type using the given context (clock, random source) <br>
+	 * By default the context is ignored
+	 * @param type
+	 * @param context
+	 * @return
+	 */
+	default Object generate(Class<?> type, ValueContext context) {
+		return generate(type);
+	}
+}
@@ -0,0 +1,298 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Registry of all the value generators (built-in generators + generators found with 'ServiceLoader') <br>
+ * The generators are indexed by exact type name, so the lookup cost doesn't depend on the number of types
+ * and the generator resolved for a type is memoized <br>
+ * If a type is not registered, its hierarchy is walked (nearest super types first)
+ * to find the most specific generator able to generate a value for this type (eg enums) <br>
+ * Else a value of a registered sub type is used (eg 'Temporal' parameter => 'Instant' value) :
+ * the most specific registered sub type, the first by name if several <br>
+ * The built-in generators are created (and their types loaded) only when a matching type is resolved
+ * for the first time (eg 'java.sql' types are not loaded if no setter uses them)
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class ValueGeneratorRegistry {
+
+	/**
+	 * Generator used for unknown types (null value)
+	 */
+	private static final ValueGenerator NO_GENERATOR = new MappedValueGenerator() {
+	};
+
+	private static final class DefaultHolder {
+		private static final ValueGeneratorRegistry DEFAULT = load();
+	}
+
+	/**
+	 * Registered generator (created on first use)
+	 */
+	private static final class Entry {
+		private final int priority;
+		private final Supplier<? extends ValueGenerator> factory;
+		private volatile ValueGenerator generator;
+
+		Entry(int priority, Supplier<? extends ValueGenerator> factory) {
+			this.priority = priority;
+			this.factory = factory;
+		}
+
+		ValueGenerator generator() {
+			ValueGenerator result = generator;
+			if ( result == null ) {
+				synchronized (this) {
+					result = generator;
+					if ( result == null ) {
+						result = factory.get();
+						generator = result;
+					}
+				}
+			}
+			return result;
+		}
+	}
+
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final Map<String, Class<?>> pluginTypes = new HashMap<>(); // types registered with a 'Class' (not by name)
+
+	private final ClassValue<ValueGenerator> resolved = new ClassValue<ValueGenerator>() {
+		@Override
+		protected ValueGenerator computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+
+	/**
+	 * Constructor
+	 * @param generators generators in loading order
+	 */
+	public ValueGeneratorRegistry(List<? extends ValueGenerator> generators) {
+		this(false, generators);
+	}
+
+	private ValueGeneratorRegistry(boolean builtIns, Iterable<? extends ValueGenerator> generators) {
+		super();
+		if ( builtIns ) {
+			BuiltInGenerators.registerAll(this::register);
+		}
+		for (ValueGenerator generator : generators) {
+			Entry entry = new Entry(generator.priority(), () -> generator);
+			for (Class<?> type : generator.supportedTypes()) {
+				register(type.getName(), entry);
+				pluginTypes.put(type.getName(), type);
+			}
+		}
+	}
+
+	/**
+	 * Returns the default registry : built-in generators + 'ServiceLoader' generators
+	 * @return
+	 */
+	public static ValueGeneratorRegistry getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	private static ValueGeneratorRegistry load() {
+		return load(Thread.currentThread().getContextClassLoader());
+	}
+
+	/**
+	 * Returns a new registry : built-in generators + generators found with 'ServiceLoader' in the given class loader
+	 * @param loader
+	 * @return
+	 */
+	static ValueGeneratorRegistry load(ClassLoader loader) {
+		return new ValueGeneratorRegistry(true, ServiceLoader.load(ValueGenerator.class, loader));
+	}
+
+	private void register(Supplier<? extends ValueGenerator> factory, String... typeNames) {
+		Entry entry = new Entry(ValueGenerator.DEFAULT_PRIORITY, factory);
+		for (String typeName : typeNames) {
+			register(typeName, entry);
+		}
+	}
+
+	private void register(String typeName, Entry entry) {
+		Entry current = entries.get(typeName);
+		if ( current == null || entry.priority >= current.priority ) {
+			entries.put(typeName, entry);
+		}
+	}
+
+	/**
+	 * Returns the generator to be used for the given type (a generator returning null if the type is unknown)
+	 * @param type
+	 * @return
+	 */
+	public ValueGenerator generatorFor(Class<?> type) {
+		return resolved.get(type);
+	}
+
+	private ValueGenerator resolve(Class<?> type) {
+		Entry entry = entries.get(type.getName());
+		if ( entry != null ) {
+			return entry.generator();
+		}
+		ValueGenerator generator = resolveSuperType(type);
+		if ( generator == null ) {
+			generator = resolveSubType(type);
+		}
+		return generator != null ? generator : NO_GENERATOR;
+	}
+
+	/**
+	 * Walks the hierarchy of the given type (breadth first : super class, then interfaces)
+	 * to find a generator accepting this type
+	 * @param type
+	 * @return the generator or null if none
+	 */
+	private ValueGenerator resolveSuperType(Class<?> type) {
+		Entry entry;
+		Deque<Class<?>> queue = new ArrayDeque<>();
+		Set<Class<?>> visited = new HashSet<>();
+		addSuperTypes(type, queue);
+		while ( ! queue.isEmpty() ) {
+			Class<?> superType = queue.poll();
+			if ( visited.add(superType) ) {
+				entry = entries.get(superType.getName());
+				if ( entry != null && entry.generator().canGenerate(type) ) {
+					return entry.generator();
+				}
+				addSuperTypes(superType, queue);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Searches the most specific registered sub type of the given type (the first by name if several)
+	 * @param type
+	 * @return a generator of values of this sub type or null if none
+	 */
+	private ValueGenerator resolveSubType(Class<?> type) {
+		if ( type.isPrimitive() || type.isArray() || Modifier.isFinal(type.getModifiers()) ) {
+			return null;
+		}
+		// built-in candidates selected by name (see 'BuiltInGenerators.superTypesOf') : only the built-in types
+		// which are sub types of the parameter type are loaded (eg none for 'List' or 'Map')
+		List<Class<?>> candidates = new ArrayList<>();
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			Class<?> registered = pluginTypes.get(entry.getKey());
+			if ( registered == null && BuiltInGenerators.superTypesOf(entry.getKey()).contains(type.getName()) ) {
+				registered = loadBuiltInType(entry.getKey());
+			}
+			if ( registered != null && registered != type && type.isAssignableFrom(registered)
+					&& entry.getValue().generator().canGenerate(registered) ) {
+				candidates.add(registered);
+			}
+		}
+		Class<?> best = null;
+		for (Class<?> candidate : candidates) {
+			if ( isMostSpecific(candidate, candidates)
+					&& ( best == null || candidate.getName().compareTo(best.getName()) < 0 ) ) {
+				best = candidate;
+			}
+		}
+		return best != null ? new SubTypeGenerator(entries.get(best.getName()).generator(), best) : null;
+	}
+
+	private static boolean isMostSpecific(Class<?> candidate, List<Class<?>> candidates) {
+		for (Class<?> other : candidates) {
+			if ( other != candidate && candidate.isAssignableFrom(other) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Loads a built-in type (not initialized) or returns null if not available (primitive type, module not present)
+	 * @param typeName
+	 * @return
+	 */
+	private static Class<?> loadBuiltInType(String typeName) {
+		try {
+			return Class.forName(typeName, false, ClassLoader.getPlatformClassLoader());
+		} catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+	}
+
+	private void addSuperTypes(Class<?> type, Deque<Class<?>> queue) {
+		if ( type.getSuperclass() != null ) {
+			queue.add(type.getSuperclass());
+		}
+		for (Class<?> superInterface : type.getInterfaces()) {
+			queue.add(superInterface);
+		}
+	}
+
+	/**
+	 * Generator for a super type parameter : generates the values of a registered sub type
+	 */
+	private static final class SubTypeGenerator implements ValueGenerator {
+		private final ValueGenerator generator;
+		private final Class<?> subType;
+
+		SubTypeGenerator(ValueGenerator generator, Class<?> subType) {
+			this.generator = generator;
+			this.subType = subType;
+		}
+
+		@Override
+		public Set<Class<?>> supportedTypes() {
+			return Collections.singleton(subType);
+		}
+
+		@Override
+		public boolean canGenerate(Class<?> type) {
+			return type.isAssignableFrom(subType);
+		}
+
+		@Override
+		public boolean isImmutable(Class<?> type) {
+			return generator.isImmutable(subType);
+		}
+
+		@Override
+		public int priority() {
+			return generator.priority();
+		}
+
+		@Override
+		public Object generate(Class<?> type) {
+			return generator.generate(subType);
+		}
+
+		@Override
+		public Object generate(Class<?> type, ValueContext context) {
+			return generator.generate(subType, context);
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ValueGeneratorRegistryTest {
+
+	/**
+	 * POJO with super type properties
+	 */
+	public static class Schedule {
+		private Temporal start;
+		private ChronoLocalDate day;
+		private Collection<String> tags;
+
+		public Temporal getStart() {
+			return start;
+		}
+		public void setStart(Temporal start) {
+			this.start = start;
+		}
+		public ChronoLocalDate getDay() {
+			return day;
+		}
+		public void setDay(ChronoLocalDate day) {
+			this.day = day;
+		}
+		public Collection<String> getTags() {
+			return tags;
+		}
+		public void setTags(Collection<String> tags) {
+			this.tags = tags;
+		}
+	}
+
+	public static class ListGenerator extends MappedValueGenerator {
+		public ListGenerator() {
+			register(List.class, () -> new ArrayList<>(Arrays.asList("a")));
+			register(ArrayList.class, () -> new ArrayList<>(Arrays.asList("b")));
+			register(LinkedList.class, () -> new LinkedList<>(Arrays.asList("c")));
+		}
+	}
+
+	/**
+	 * Plug-ins (loaded with 'ServiceLoader')
+	 */
+	public static class HighStringGenerator extends MappedValueGenerator {
+		public HighStringGenerator() {
+			register(String.class, () -> "high");
+		}
+		@Override
+		public int priority() {
+			return 10;
+		}
+	}
+
+	public static class LowStringGenerator extends MappedValueGenerator {
+		public LowStringGenerator() {
+			register(String.class, () -> "low");
+			register(Integer.class, () -> Integer.valueOf(-1));
+			register(StringBuilder.class, () -> new StringBuilder("low"));
+		}
+		@Override
+		public int priority() {
+			return -1;
+		}
+	}
+
+	public static class DecimalGenerator extends MappedValueGenerator {
+		public DecimalGenerator() {
+			register(BigDecimal.class, () -> BigDecimal.ONE);
+		}
+	}
+
+	private static Object valueFor(ValueGeneratorRegistry registry, Class<?> type) {
+		return registry.generatorFor(type).generate(type, ValueContext.getDefault());
+	}
+
+	@Test
+	public void testSuperTypeOfBuiltInTypes() {
+		ValueGeneratorRegistry registry = ValueGeneratorRegistry.getDefault();
+		// most specific registered sub type, the first by name if several
+		assertEquals(LocalDate.class, valueFor(registry, ChronoLocalDate.class).getClass());
+		assertEquals(LocalDateTime.class, valueFor(registry, ChronoLocalDateTime.class).getClass());
+		assertEquals(Instant.class, valueFor(registry, Temporal.class).getClass());
+		assertEquals(DayOfWeek.class, valueFor(registry, TemporalAccessor.class).getClass());
+		// memoized
+		assertSame(registry.generatorFor(Temporal.class), registry.generatorFor(Temporal.class));
+		assertTrue(registry.generatorFor(Temporal.class).isImmutable(Temporal.class));
+	}
+
+	@Test
+	public void testSuperTypeOfPluginTypes() {
+		ValueGeneratorRegistry registry = new ValueGeneratorRegistry(Arrays.asList(new ListGenerator()));
+		assertEquals(Arrays.asList("a"), valueFor(registry, List.class)); // exact type
+		// 'ArrayList' and 'LinkedList' more specific than 'List', 'ArrayList' first by name
+		assertEquals(ArrayList.class, valueFor(registry, Collection.class).getClass());
+		assertEquals(Arrays.asList("b"), valueFor(registry, Iterable.class));
+		assertNull(valueFor(registry, Temporal.class)); // no built-in generator in this registry
+	}
+
+	@Test
+	public void testPluginPriority(@TempDir Path dir) throws IOException {
+		Path services = dir.resolve("META-INF/services/" + ValueGenerator.class.getName());
+		Files.createDirectories(services.getParent());
+		Files.write(services, Arrays.asList(HighStringGenerator.class.getName(), LowStringGenerator.class.getName(),
+				DecimalGenerator.class.getName()));
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, getClass().getClassLoader())) {
+			ValueGeneratorRegistry registry = ValueGeneratorRegistry.load(loader);
+			// highest priority (even if loaded first)
+			assertEquals("high", valueFor(registry, String.class));
+			// lower priority than the built-in generator
+			assertEquals(Integer.valueOf(12345), valueFor(registry, Integer.class));
+			// type without built-in generator
+			assertEquals("low", valueFor(registry, StringBuilder.class).toString());
+			// same priority as the built-in generator : the plug-in (loaded last) wins
+			assertEquals(BigDecimal.ONE, valueFor(registry, BigDecimal.class));
+			assertEquals(new BigInteger("12345678"), valueFor(registry, BigInteger.class));
+		}
+		// the default registry is not changed
+		assertEquals("Z", valueFor(ValueGeneratorRegistry.getDefault(), String.class));
+	}
+
+	@Test
+	public void testSuperTypeProperties() {
+		for (PropertyAccessor property : AccessorPlan.of(Schedule.class).getProperties()) {
+			Object value = property.newValue(ValueContext.getDefault());
+			if ( property.getType() == Collection.class ) {
+				assertNull(value); // no built-in collection
+			}
+			else {
+				assertTrue(property.getType().isInstance(value), property.toString());
+			}
+		}
+		new PojoUnitTester().testAll(Schedule.class);
+	}
+}
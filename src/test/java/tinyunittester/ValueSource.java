@@ -0,0 +1,89 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+/**
+ * Source of the values used to call the setters <br>
+ * In 'pooled' mode an immutable value is created once for each type and then shared by all the classes
+ * and threads (mutable values like 'SimpleDateFormat' or 'java.util.Date' are always created for each call) <br>
+ * All the values are generated with the same context (clock and seed)
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class ValueSource {
+
+	private static final class DefaultHolder {
+		private static final ValueSource DEFAULT = new ValueSource(ValueContext.getDefault(), false);
+		private static final ValueSource POOLED = new ValueSource(ValueContext.getDefault(), true);
+	}
+
+	private final ValueContext context;
+	private final boolean pooled;
+
+	private final ClassValue<Object> pool = new ClassValue<Object>() {
+		@Override
+		protected Object computeValue(Class<?> type) {
+			return ValueGeneratorRegistry.getDefault().generatorFor(type)
+					.generate(type, context.derive(ValueContext.key(type.getName())));
+		}
+	};
+
+	/**
+	 * Constructor
+	 * @param context context used to generate the values
+	 * @param pooled true to share the immutable values
+	 */
+	public ValueSource(ValueContext context, boolean pooled) {
+		super();
+		this.context = context;
+		this.pooled = pooled;
+	}
+
+	/**
+	 * Returns the value source creating a new value for each call (default context)
+	 * @return
+	 */
+	public static ValueSource getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * Returns the value source sharing the immutable values (default context)
+	 * @return
+	 */
+	public static ValueSource getPooled() {
+		return DefaultHolder.POOLED;
+	}
+
+	public ValueContext getContext() {
+		return context;
+	}
+
+	public boolean isPooled() {
+		return pooled;
+	}
+
+	/**
+	 * Returns a value for the given property
+	 * @param property
+	 * @return
+	 */
+	public Object valueFor(PropertyAccessor property) {
+		if ( pooled && property.isImmutableValue() ) {
+			return pool.get(property.getType());
+		}
+		else {
+			return property.newValue(context);
+		}
+	}
+}
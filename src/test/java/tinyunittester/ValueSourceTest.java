@@ -0,0 +1,258 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.text.MessageFormat;
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.demo.pojo.Employee;
+import org.junit.jupiter.api.Test;
+
+public class ValueSourceTest {
+
+	/**
+	 * POJO with random values
+	 */
+	public static class Tokens {
+		private UUID first;
+		private UUID second;
+
+		public UUID getFirst() {
+			return first;
+		}
+		public void setFirst(UUID first) {
+			this.first = first;
+		}
+		public UUID getSecond() {
+			return second;
+		}
+		public void setSecond(UUID second) {
+			this.second = second;
+		}
+	}
+
+	/**
+	 * POJOs with immutable and mutable values
+	 */
+	public static class Invoice {
+		private BigDecimal amount;
+		private Date date;
+		private SimpleDateFormat format;
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+		public void setAmount(BigDecimal amount) {
+			this.amount = amount;
+		}
+		public Date getDate() {
+			return date;
+		}
+		public void setDate(Date date) {
+			this.date = date;
+		}
+		public SimpleDateFormat getFormat() {
+			return format;
+		}
+		public void setFormat(SimpleDateFormat format) {
+			this.format = format;
+		}
+	}
+
+	public static class Tax {
+		private BigDecimal rate;
+
+		public BigDecimal getRate() {
+			return rate;
+		}
+		public void setRate(BigDecimal rate) {
+			this.rate = rate;
+		}
+	}
+
+	private static PropertyAccessor property(Class<?> clazz, String name) {
+		for (PropertyAccessor property : AccessorPlan.of(clazz).getProperties()) {
+			if ( property.getName().equals(name) ) {
+				return property;
+			}
+		}
+		throw new IllegalArgumentException(name);
+	}
+
+	private static List<PropertyAccessor> properties() {
+		List<PropertyAccessor> properties = new ArrayList<>();
+		properties.addAll(AccessorPlan.of(Employee.class).getProperties());
+		properties.addAll(AccessorPlan.of(Tokens.class).getProperties());
+		return properties;
+	}
+
+	private static String key(PropertyAccessor property) {
+		return property.getSetter().getDeclaringClass().getName() + "." + property.getName();
+	}
+
+	private static Map<String, Object> sequentialValues(ValueSource values) {
+		Map<String, Object> map = new HashMap<>();
+		for ( PropertyAccessor property : properties() ) {
+			map.put(key(property), values.valueFor(property));
+		}
+		return map;
+	}
+
+	private static Map<String, Object> concurrentValues(ValueSource values) throws Exception {
+		List<PropertyAccessor> properties = properties();
+		Collections.reverse(properties);
+		Map<String, Object> map = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for ( PropertyAccessor property : properties ) {
+				futures.add(executor.submit(() -> map.put(key(property), values.valueFor(property))));
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		return map;
+	}
+
+	private static ValueSource source(long seed, boolean pooled) {
+		return new ValueSource(new ValueContext(Clock.fixed(Instant.parse("2021-06-01T00:00:00Z"), ZoneOffset.UTC), seed), pooled);
+	}
+
+	@Test
+	public void testSameSeedSameValues() throws Exception {
+		for ( boolean pooled : new boolean[] { false, true } ) {
+			Map<String, Object> expected = sequentialValues(source(42, pooled));
+			assertEquals(expected, sequentialValues(source(42, pooled)));
+			assertEquals(expected, concurrentValues(source(42, pooled)));
+		}
+	}
+
+	@Test
+	public void testSeedChangesValues() {
+		Map<String, Object> values1 = sequentialValues(source(1, false));
+		Map<String, Object> values2 = sequentialValues(source(2, false));
+		String uid = Employee.class.getName() + ".Uid";
+		assertNotEquals(values1.get(uid), values2.get(uid));
+		// same seed : different values for different properties
+		String first = Tokens.class.getName() + ".First";
+		String second = Tokens.class.getName() + ".Second";
+		assertNotEquals(values1.get(first), values1.get(second));
+	}
+
+	@Test
+	public void testPooledValues() throws Exception {
+		ValueSource pooled = ValueSource.getPooled();
+		PropertyAccessor amount = property(Invoice.class, "Amount");
+		// immutable value : created once, shared by all the classes and threads
+		Object value = pooled.valueFor(amount);
+		assertSame(value, pooled.valueFor(amount));
+		assertSame(value, pooled.valueFor(property(Tax.class, "Rate")));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertSame(value, executor.submit(() -> pooled.valueFor(amount)).get());
+		}
+		finally {
+			executor.shutdown();
+		}
+		// mutable values : new instance for each call
+		for (String name : new String[] { "Date", "Format" }) {
+			PropertyAccessor property = property(Invoice.class, name);
+			assertFalse(property.isImmutableValue(), name);
+			assertNotSame(pooled.valueFor(property), pooled.valueFor(property));
+		}
+		// not pooled
+		assertNotSame(ValueSource.getDefault().valueFor(amount), ValueSource.getDefault().valueFor(amount));
+	}
+
+	@Test
+	public void testPooledTypesImmutable() {
+		Set<Class<?>> mutableTypes = new HashSet<>(Arrays.asList(Date.class, SimpleDateFormat.class,
+				MessageFormat.class, java.sql.Date.class, java.sql.Time.class, java.sql.Timestamp.class));
+		ValueGeneratorRegistry registry = ValueGeneratorRegistry.getDefault();
+		for (Class<?> type : new Class<?>[] { String.class, int.class, Integer.class, Double.class, BigDecimal.class,
+				BigInteger.class, LocalDate.class, LocalDateTime.class, Instant.class, Duration.class, Month.class,
+				UUID.class, Currency.class, URI.class, URL.class, Comparable.class, Number.class, Object.class,
+				Date.class, SimpleDateFormat.class, MessageFormat.class,
+				java.sql.Date.class, java.sql.Time.class, java.sql.Timestamp.class }) {
+			// only the immutable types can be shared
+			assertEquals(! mutableTypes.contains(type), registry.generatorFor(type).isImmutable(type), type.getName());
+		}
+	}
+
+	@Test
+	public void testClock() {
+		// system clock by default, fixed clock on demand
+		assertEquals(Clock.systemDefaultZone().getZone(), ValueContext.getDefault().getClock().getZone());
+		assertNotEquals(ValueContext.FIXED_INSTANT, ValueContext.getDefault().getClock().instant());
+		Clock clock = ValueContext.fixedClock();
+		assertEquals(Instant.parse("2020-01-15T10:30:00Z"), clock.instant());
+		assertEquals(ZoneOffset.UTC, clock.getZone());
+	}
+
+	@Test
+	public void testValuesFixedForProperty() {
+		PropertyAccessor uid = property(Employee.class, "Uid");
+		ValueSource values = source(42, false);
+		assertEquals(values.valueFor(uid), values.valueFor(uid));
+		assertNotSame(values.valueFor(uid), values.valueFor(uid));
+	}
+
+	@Test
+	public void testThreadStreamsSplit() throws Exception {
+		// context not derived : each thread has its own stream
+		ValueContext context = new ValueContext(ValueContext.fixedClock(), 42);
+		long value = context.random().nextLong();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertNotEquals(value, executor.submit(() -> context.random().nextLong()).get());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+}
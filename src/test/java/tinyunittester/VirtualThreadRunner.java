@@ -0,0 +1,136 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the tests with 1 virtual thread for each class (or each range of properties for a large class) <br>
+ * A blocking accessor only blocks its own virtual thread <br>
+ * The executor is created by reflection ('Executors.newVirtualThreadPerTaskExecutor') so that the code
+ * can be compiled and run with a release without virtual threads
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class VirtualThreadRunner {
+
+	private static final Method FACTORY = findFactory();
+
+	private VirtualThreadRunner() {
+	}
+
+	private static Method findFactory() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			// check virtual threads are really usable (preview feature in Java 19/20)
+			((ExecutorService) method.invoke(null)).shutdown();
+			return method;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns true if the current runtime supports virtual threads
+	 * @return
+	 */
+	static boolean isSupported() {
+		return FACTORY != null;
+	}
+
+	/**
+	 * Tests all the given classes with virtual threads
+	 * @param tester
+	 * @param classes
+	 * @return
+	 */
+	static PojoTestResult run(PojoUnitTester tester, List<Class<?>> classes) {
+		ExecutorService executor = newExecutor();
+		try {
+			List<Future<PojoTestResult>> futures = new ArrayList<>(classes.size());
+			for (Class<?> clazz : classes) {
+				futures.add(executor.submit(() -> testClass(executor, tester, clazz)));
+			}
+			PojoTestResult.Collector collector = new PojoTestResult.Collector();
+			for (Future<PojoTestResult> future : futures) {
+				collector.add(future.get());
+			}
+			return collector.build();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the virtual threads", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Unexpected error in a virtual thread", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests a class in its own virtual thread : the class events are published when the test really
+	 * starts and ends (not when the class is queued) <br>
+	 * A large class is split in ranges of properties, each range is tested in another virtual thread
+	 * @param executor
+	 * @param tester
+	 * @param clazz
+	 * @return
+	 * @throws InterruptedException
+	 * @throws ExecutionException
+	 */
+	private static PojoTestResult testClass(ExecutorService executor, PojoUnitTester tester, Class<?> clazz)
+			throws InterruptedException, ExecutionException {
+		long start = tester.classStarted(clazz);
+		PojoTestResult.Collector collector = new PojoTestResult.Collector().add(PojoTestResult.of(1, 0));
+		AccessorPlan plan = null;
+		try {
+			plan = AccessorPlan.of(clazz);
+		} catch (LinkageError | RuntimeException e) {
+			// accessor plan not available (eg missing dependency) => failure of this class only
+			collector.add(tester.classFailure(clazz, e));
+		}
+		if ( plan != null ) {
+			int size = plan.getProperties().size();
+			if ( size <= PojoTestTask.PROPERTIES_THRESHOLD ) {
+				collector.add(tester.testPropertiesRange(clazz, 0, size));
+			}
+			else {
+				List<Future<PojoTestResult>> ranges = new ArrayList<>();
+				for (int from = 0 ; from < size ; from += PojoTestTask.PROPERTIES_THRESHOLD) {
+					int rangeFrom = from;
+					int rangeTo = Math.min(from + PojoTestTask.PROPERTIES_THRESHOLD, size);
+					ranges.add(executor.submit(() -> tester.testPropertiesRange(clazz, rangeFrom, rangeTo)));
+				}
+				for (Future<PojoTestResult> range : ranges) {
+					collector.add(range.get()); // blocks only this virtual thread
+				}
+			}
+		}
+		PojoTestResult result = collector.build();
+		tester.classFinished(clazz, result, start);
+		return result;
+	}
+
+	private static ExecutorService newExecutor() {
+		try {
+			return (ExecutorService) FACTORY.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Cannot create virtual threads executor", e);
+		}
+	}
+}
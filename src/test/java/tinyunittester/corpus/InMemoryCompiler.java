@@ -0,0 +1,110 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.corpus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * In-process compiler : sources and class files are kept in memory (nothing written on disk)
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class InMemoryCompiler {
+
+	private final JavaCompiler compiler;
+
+	InMemoryCompiler() {
+		super();
+		this.compiler = ToolProvider.getSystemJavaCompiler();
+		if ( compiler == null ) {
+			throw new IllegalStateException("No Java compiler available (JDK required)");
+		}
+	}
+
+	/**
+	 * Compiles the given sources in a single compilation task
+	 * @param sources sources (class name -> source code)
+	 * @param classFiles compiled classes (class name -> bytes)
+	 */
+	void compile(Map<String, String> sources, Map<String, byte[]> classFiles) {
+		List<JavaFileObject> units = new ArrayList<>(sources.size());
+		for (Map.Entry<String, String> source : sources.entrySet()) {
+			units.add(new SourceFile(source.getKey(), source.getValue()));
+		}
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(diagnostics, null, null);
+		ForwardingJavaFileManager<StandardJavaFileManager> fileManager = new ForwardingJavaFileManager<StandardJavaFileManager>(standardFileManager) {
+			@Override
+			public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+				return new ClassFile(className, classFiles);
+			}
+		};
+		boolean success = compiler.getTask(null, fileManager, diagnostics, List.of("-proc:none"), null, units).call();
+		if ( ! success ) {
+			throw new IllegalStateException("Compilation error : " + diagnostics.getDiagnostics());
+		}
+	}
+
+	private static URI uri(String className, JavaFileObject.Kind kind) {
+		return URI.create("mem:///" + className.replace('.', '/') + kind.extension);
+	}
+
+	private static final class SourceFile extends SimpleJavaFileObject {
+		private final String code;
+
+		SourceFile(String className, String code) {
+			super(uri(className, Kind.SOURCE), Kind.SOURCE);
+			this.code = code;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return code;
+		}
+	}
+
+	private static final class ClassFile extends SimpleJavaFileObject {
+		private final String className;
+		private final Map<String, byte[]> classFiles;
+
+		ClassFile(String className, Map<String, byte[]> classFiles) {
+			super(uri(className, Kind.CLASS), Kind.CLASS);
+			this.className = className;
+			this.classFiles = classFiles;
+		}
+
+		@Override
+		public OutputStream openOutputStream() {
+			return new ByteArrayOutputStream() {
+				@Override
+				public void close() {
+					classFiles.put(className, toByteArray());
+				}
+			};
+		}
+	}
+}
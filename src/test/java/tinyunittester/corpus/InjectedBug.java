@@ -0,0 +1,31 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.corpus;
+
+/**
+ * Kinds of bugs that can be injected in a generated POJO
+ *
+ * @author Laurent Guerin
+ *
+ */
+public enum InjectedBug {
+
+	/**
+	 * The setter appends a suffix to the value (String properties only, like 'Invalid.setName')
+	 */
+	APPEND_SUFFIX,
+
+	/**
+	 * The setter ignores the value
+	 */
+	IGNORED_VALUE
+}
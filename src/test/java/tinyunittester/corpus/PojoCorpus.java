@@ -0,0 +1,64 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.corpus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a corpus generation : the generated POJO classes and the bugs injected in some of them
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PojoCorpus {
+
+	private final List<Class<?>> classes;
+	private final Map<String, String> buggyProperties;
+
+	PojoCorpus(List<Class<?>> classes, Map<String, String> buggyProperties) {
+		super();
+		this.classes = Collections.unmodifiableList(classes);
+		this.buggyProperties = Collections.unmodifiableMap(buggyProperties);
+	}
+
+	/**
+	 * Returns all the generated classes (the classes to be tested, without the base classes)
+	 * @return
+	 */
+	public List<Class<?>> getClasses() {
+		return classes;
+	}
+
+	/**
+	 * Returns the buggy property for each class with an injected bug (class name -> property name)
+	 * @return
+	 */
+	public Map<String, String> getBuggyProperties() {
+		return buggyProperties;
+	}
+
+	/**
+	 * Returns true if a bug has been injected in the given class
+	 * @param clazz
+	 * @return
+	 */
+	public boolean isBuggy(Class<?> clazz) {
+		return buggyProperties.containsKey(clazz.getName());
+	}
+
+	@Override
+	public String toString() {
+		return classes.size() + " class(es), " + buggyProperties.size() + " with injected bug";
+	}
+}
@@ -0,0 +1,276 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.corpus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Synthetic POJO corpus generator (for benchmarks and stress tests) <br>
+ * The classes are generated and compiled at runtime (in memory, no generated sources checked in)
+ * with a given number of properties, a mix of types, an inheritance depth and injected bugs <br>
+ * All the generated classes are defined in a dedicated class loader
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PojoCorpusGenerator {
+
+	/**
+	 * Default types mix
+	 */
+	public static final List<String> DEFAULT_TYPES = Arrays.asList("String", "int", "Long", "boolean", "double",
+			"java.time.LocalDate", "java.util.UUID", "java.math.BigDecimal");
+
+	private static final String SUFFIX_BUG = " foo";
+
+	/**
+	 * Number of classes compiled in a single compilation task
+	 */
+	private static final int BATCH_SIZE = 500;
+
+	/**
+	 * Builder for a generator with specific options
+	 */
+	public static class Builder {
+		private String packageName = "corpus";
+		private int classCount = 1;
+		private int propertyCount = 10;
+		private List<String> types = DEFAULT_TYPES;
+		private int inheritanceDepth = 0;
+		private double bugRate = 0.0;
+		private long seed = 12345L;
+
+		private Builder() {
+		}
+
+		/**
+		 * Package of the generated classes
+		 */
+		public Builder packageName(String packageName) {
+			this.packageName = packageName;
+			return this;
+		}
+
+		/**
+		 * Number of classes to be generated (classes to be tested)
+		 */
+		public Builder classCount(int classCount) {
+			this.classCount = classCount;
+			return this;
+		}
+
+		/**
+		 * Number of properties declared in each class (inherited properties not included)
+		 */
+		public Builder propertyCount(int propertyCount) {
+			this.propertyCount = propertyCount;
+			return this;
+		}
+
+		/**
+		 * Types of the properties (Java source names, eg 'int', 'String', 'java.time.LocalDate')
+		 */
+		public Builder types(List<String> types) {
+			this.types = new ArrayList<>(types);
+			return this;
+		}
+
+		/**
+		 * Number of super classes (each one with 1 property), shared by all the classes
+		 */
+		public Builder inheritanceDepth(int inheritanceDepth) {
+			this.inheritanceDepth = inheritanceDepth;
+			return this;
+		}
+
+		/**
+		 * Rate of classes with an injected bug (from 0.0 to 1.0)
+		 */
+		public Builder bugRate(double bugRate) {
+			this.bugRate = bugRate;
+			return this;
+		}
+
+		/**
+		 * Seed used for the types and bugs selection (same seed = same corpus)
+		 */
+		public Builder seed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		public PojoCorpusGenerator build() {
+			return new PojoCorpusGenerator(this);
+		}
+	}
+
+	/**
+	 * Class loader for the generated classes
+	 */
+	private static final class CorpusClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classFiles;
+
+		CorpusClassLoader(ClassLoader parent, Map<String, byte[]> classFiles) {
+			super(parent);
+			this.classFiles = classFiles;
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			byte[] bytes = classFiles.remove(name);
+			if ( bytes == null ) {
+				throw new ClassNotFoundException(name);
+			}
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+
+	private final String packageName;
+	private final int classCount;
+	private final int propertyCount;
+	private final List<String> types;
+	private final int inheritanceDepth;
+	private final double bugRate;
+	private final long seed;
+
+	private PojoCorpusGenerator(Builder builder) {
+		super();
+		this.packageName = builder.packageName;
+		this.classCount = builder.classCount;
+		this.propertyCount = builder.propertyCount;
+		this.types = builder.types;
+		this.inheritanceDepth = builder.inheritanceDepth;
+		this.bugRate = builder.bugRate;
+		this.seed = builder.seed;
+	}
+
+	/**
+	 * Returns a builder to create a generator with specific options
+	 * @return
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Generates, compiles and loads a new corpus
+	 * @return
+	 */
+	public PojoCorpus generate() {
+		SplittableRandom random = new SplittableRandom(seed);
+		String prefix = "Pojo" + Long.toHexString(seed) + "_" + propertyCount + "_";
+		// base classes (shared)
+		Map<String, String> baseSources = new LinkedHashMap<>();
+		String superClass = null;
+		for (int level = 1 ; level <= inheritanceDepth ; level++) {
+			String name = prefix + "Base" + level;
+			baseSources.put(qualified(name), source(name, superClass, "b" + level + "_", 1, random, null, null));
+			superClass = name;
+		}
+		// classes to be tested (compiled by batches, with the base classes)
+		InMemoryCompiler compiler = new InMemoryCompiler();
+		Map<String, byte[]> classFiles = new ConcurrentHashMap<>();
+		Map<String, String> buggyProperties = new HashMap<>();
+		List<String> classNames = new ArrayList<>(classCount);
+		Map<String, String> batch = new LinkedHashMap<>(baseSources);
+		for (int i = 0 ; i < classCount ; i++) {
+			String name = prefix + i;
+			InjectedBug bug = null;
+			String buggyProperty = null;
+			if ( random.nextDouble() < bugRate ) {
+				buggyProperty = "p" + random.nextInt(propertyCount);
+				bug = InjectedBug.IGNORED_VALUE;
+			}
+			String source = source(name, superClass, "p", propertyCount, random, buggyProperty, bug);
+			if ( buggyProperty != null ) {
+				buggyProperties.put(qualified(name), capitalize(buggyProperty));
+			}
+			classNames.add(qualified(name));
+			batch.put(qualified(name), source);
+			if ( batch.size() - baseSources.size() >= BATCH_SIZE || i == classCount - 1 ) {
+				compiler.compile(batch, classFiles);
+				batch = new LinkedHashMap<>(baseSources);
+			}
+		}
+		CorpusClassLoader loader = new CorpusClassLoader(PojoCorpusGenerator.class.getClassLoader(), classFiles);
+		List<Class<?>> classes = new ArrayList<>(classCount);
+		try {
+			for (String className : classNames) {
+				classes.add(Class.forName(className, false, loader));
+			}
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Generated class not found", e);
+		}
+		return new PojoCorpus(classes, buggyProperties);
+	}
+
+	private String qualified(String simpleName) {
+		return packageName + "." + simpleName;
+	}
+
+	private static String capitalize(String s) {
+		return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+	}
+
+	/**
+	 * Returns the source code of a class
+	 * @param className
+	 * @param superClass super class or null
+	 * @param namePrefix prefix of the properties names (unique in the hierarchy)
+	 * @param count number of properties
+	 * @param random
+	 * @param buggyProperty name of the property with a bug (or null)
+	 * @param bug kind of bug
+	 * @return
+	 */
+	private String source(String className, String superClass, String namePrefix, int count, SplittableRandom random,
+			String buggyProperty, InjectedBug bug) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("package ").append(packageName).append(";\n");
+		sb.append("public class ").append(className);
+		if ( superClass != null ) {
+			sb.append(" extends ").append(superClass);
+		}
+		sb.append(" {\n");
+		for (int i = 0 ; i < count ; i++) {
+			String type = types.get(random.nextInt(types.size()));
+			String name = namePrefix + i;
+			String capitalized = capitalize(name);
+			InjectedBug propertyBug = name.equals(buggyProperty) ? bug : null;
+			if ( propertyBug != null && type.equals("String") && random.nextBoolean() ) {
+				propertyBug = InjectedBug.APPEND_SUFFIX;
+			}
+			sb.append("  private ").append(type).append(' ').append(name).append(";\n");
+			sb.append("  public ").append(type).append(type.equals("boolean") ? " is" : " get").append(capitalized)
+					.append("() { return ").append(name).append("; }\n");
+			sb.append("  public void set").append(capitalized).append('(').append(type).append(" v) { ");
+			if ( propertyBug == InjectedBug.APPEND_SUFFIX ) {
+				sb.append("this.").append(name).append(" = v + \"").append(SUFFIX_BUG).append("\"; }\n"); // BUG
+			}
+			else if ( propertyBug == InjectedBug.IGNORED_VALUE ) {
+				sb.append("}\n"); // BUG
+			}
+			else {
+				sb.append("this.").append(name).append(" = v; }\n");
+			}
+		}
+		sb.append("}\n");
+		return sb.toString();
+	}
+}
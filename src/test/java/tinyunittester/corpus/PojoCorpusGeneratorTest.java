@@ -0,0 +1,63 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.corpus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import tinyunittester.PojoFailure;
+import tinyunittester.PojoTestResult;
+import tinyunittester.PojoUnitTester;
+
+public class PojoCorpusGeneratorTest {
+
+	@Test
+	public void testGeneratedCorpus() {
+		PojoCorpus corpus = PojoCorpusGenerator.builder()
+				.classCount(100).propertyCount(20).inheritanceDepth(2).bugRate(0.2).build().generate();
+		PojoTestResult result = new PojoUnitTester().testAll(corpus.getClasses());
+		assertEquals(100, result.getClassCount());
+		// all the injected bugs are detected (class name -> property name)
+		Map<String, String> failures = new HashMap<>();
+		for (PojoFailure failure : result.getFailures()) {
+			failures.put(failure.getTestedClass().getName(), failure.getPropertyName());
+		}
+		assertEquals(result.getFailures().size(), failures.size());
+		assertEquals(corpus.getBuggyProperties(), failures);
+	}
+
+	@Test
+	public void testSameSeedSameCorpus() {
+		PojoCorpus corpus1 = PojoCorpusGenerator.builder().classCount(20).bugRate(0.5).seed(7).build().generate();
+		PojoCorpus corpus2 = PojoCorpusGenerator.builder().classCount(20).bugRate(0.5).seed(7).build().generate();
+		assertFalse(corpus1.getBuggyProperties().isEmpty());
+		assertEquals(corpus1.getBuggyProperties(), corpus2.getBuggyProperties());
+		for (int i = 0 ; i < 20 ; i++) {
+			Class<?> clazz = corpus1.getClasses().get(i);
+			assertEquals(clazz.getName(), corpus2.getClasses().get(i).getName());
+			assertEquals(corpus1.getBuggyProperties().containsKey(clazz.getName()), corpus1.isBuggy(clazz));
+		}
+	}
+
+	@Test
+	public void testNoBug() {
+		PojoCorpus corpus = PojoCorpusGenerator.builder().classCount(10).bugRate(0).build().generate();
+		assertTrue(corpus.getBuggyProperties().isEmpty());
+		assertTrue(new PojoUnitTester().testAll(corpus.getClasses()).isSuccess());
+	}
+}
@@ -0,0 +1,108 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.junit;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicTest;
+
+import tinyunittester.AccessorPlan;
+import tinyunittester.PojoUnitTester;
+import tinyunittester.PropertyAccessor;
+
+/**
+ * JUnit 5 integration : 1 dynamic container for each class and 1 dynamic test for each property
+ * (built from the accessor plan), to be returned by a '@TestFactory' method <br>
+ * Each property is tested with its own instance, so the dynamic tests are independent and
+ * can be executed concurrently ('junit.jupiter.execution.parallel.enabled' and
+ * '&#64;Execution(ExecutionMode.CONCURRENT)' on the test class) <br>
+ * Example : <br>
+ *   &#64;TestFactory <br>
+ *   Stream&lt;DynamicContainer&gt; pojos() { <br>
+ *     return PojoDynamicTests.forClasses(Employee.class, Imbalance.class); <br>
+ *   }
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PojoDynamicTests {
+
+	private PojoDynamicTests() {
+	}
+
+	/**
+	 * Returns 1 container for each class (with a default tester)
+	 * @param classes
+	 * @return
+	 */
+	public static Stream<DynamicContainer> forClasses(Class<?>... classes) {
+		return forClasses(new PojoUnitTester(), Arrays.asList(classes));
+	}
+
+	/**
+	 * Returns 1 container for each class
+	 * @param tester the tester used for all the properties
+	 * @param classes
+	 * @return
+	 */
+	public static Stream<DynamicContainer> forClasses(PojoUnitTester tester, Collection<? extends Class<?>> classes) {
+		// containers built now : the stream must not depend on the given collection
+		return classes.stream().map(c -> forClass(tester, c)).collect(Collectors.toList()).stream();
+	}
+
+	/**
+	 * Returns a container with 1 dynamic test for each property of the given class
+	 * @param tester
+	 * @param clazz
+	 * @return
+	 */
+	public static DynamicContainer forClass(PojoUnitTester tester, Class<?> clazz) {
+		URI source = URI.create("class:" + clazz.getName());
+		Stream<DynamicTest> tests;
+		try {
+			tests = AccessorPlan.of(clazz).getProperties().stream().map(property -> forProperty(tester, clazz, property));
+		} catch (LinkageError | RuntimeException e) {
+			// accessor plan not available (eg missing dependency) => a single failed test for this class
+			tests = Stream.of(DynamicTest.dynamicTest("(class)", source, () -> { throw e; }));
+		}
+		return DynamicContainer.dynamicContainer(clazz.getSimpleName(), source, tests);
+	}
+
+	/**
+	 * Returns a dynamic test for a single property (the source is the setter)
+	 * @param tester
+	 * @param clazz
+	 * @param property
+	 * @return
+	 */
+	public static DynamicTest forProperty(PojoUnitTester tester, Class<?> clazz, PropertyAccessor property) {
+		return DynamicTest.dynamicTest(property.toString(), methodUri(clazz, property.getSetter()),
+				() -> tester.testProperty(clazz, property));
+	}
+
+	/**
+	 * Returns the 'method' URI used by the IDE to go to the source
+	 * @param clazz
+	 * @param method
+	 * @return
+	 */
+	private static URI methodUri(Class<?> clazz, Method method) {
+		return URI.create("method:" + clazz.getName() + "#" + method.getName()
+				+ "(" + method.getParameterTypes()[0].getTypeName() + ")");
+	}
+}
@@ -0,0 +1,84 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.junit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Imbalance;
+import org.demo.pojo.Invalid;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import tinyunittester.AccessorPlan;
+import tinyunittester.PojoUnitTester;
+import tinyunittester.PojoUnitTester.PojoException;
+
+@Execution(ExecutionMode.CONCURRENT)
+public class PojoDynamicTestsTest {
+
+	@TestFactory
+	public Stream<DynamicContainer> testEachProperty() {
+		// 1 dynamic test for each property (executed concurrently)
+		return PojoDynamicTests.forClasses(Employee.class, Imbalance.class);
+	}
+
+	@Test
+	public void testContainers() throws Throwable {
+		List<Class<?>> classes = new ArrayList<>(Arrays.asList(Employee.class, Invalid.class));
+		List<DynamicContainer> containers = PojoDynamicTests.forClasses(new PojoUnitTester(), classes).collect(Collectors.toList());
+		// built before the stream is consumed
+		classes.clear();
+		assertEquals(2, containers.size());
+		Map<String, String> failures = new TreeMap<>();
+		for (DynamicContainer container : containers) {
+			assertEquals("class:org.demo.pojo." + container.getDisplayName(), container.getTestSourceUri().get().toString());
+			List<DynamicNode> tests = container.getChildren().collect(Collectors.toList());
+			Class<?> clazz = Class.forName("org.demo.pojo." + container.getDisplayName());
+			assertEquals(AccessorPlan.of(clazz).getProperties().size(), tests.size());
+			for (DynamicNode node : tests) {
+				try {
+					((DynamicTest) node).getExecutable().execute();
+				} catch (PojoException e) {
+					failures.put(container.getDisplayName(), e.getPropertyName());
+					assertEquals("method:org.demo.pojo.Invalid#setName(java.lang.String)", node.getTestSourceUri().get().toString());
+				}
+			}
+		}
+		// only the invalid property fails
+		assertEquals(1, failures.size());
+		assertEquals("Name", failures.get("Invalid"));
+	}
+
+	@Test
+	public void testSingleProperty() {
+		PojoUnitTester tester = new PojoUnitTester();
+		DynamicTest test = PojoDynamicTests.forProperty(tester, Invalid.class, AccessorPlan.of(Invalid.class).getProperties().stream()
+				.filter(p -> p.getName().equals("Name")).findFirst().get());
+		assertEquals("method:org.demo.pojo.Invalid#setName(java.lang.String)", test.getTestSourceUri().get().toString());
+		assertThrows(PojoException.class, () -> test.getExecutable().execute());
+	}
+}
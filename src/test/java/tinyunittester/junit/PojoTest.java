@@ -0,0 +1,40 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.junit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Marks a JUnit 5 test class using the shared 'PojoUnitTester' <br>
+ * The tester is injected in the test methods (or constructor) with a parameter of type 'PojoUnitTester' : <br>
+ *   &#64;Test <br>
+ *   void testEmployee(PojoUnitTester tester) { <br>
+ *     tester.testAll(Employee.class); <br>
+ *   }
+ *
+ * @author Laurent Guerin
+ *
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@ExtendWith(PojoTesterExtension.class)
+public @interface PojoTest {
+}
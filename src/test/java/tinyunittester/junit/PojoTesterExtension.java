@@ -0,0 +1,70 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.junit;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import tinyunittester.LogLevel;
+import tinyunittester.PojoUnitTester;
+
+/**
+ * JUnit 5 extension (see '@PojoTest') resolving the 'PojoUnitTester' parameters <br>
+ * A single tester is created for the whole JVM (stored in the root context) and shared by all the test classes,
+ * so the accessor plans, the value generators and the bound accessors are built once and reused
+ * even when JUnit executes the test classes in parallel (the tester is thread-safe) <br>
+ * The log level of the shared tester can be set with the configuration parameter 'tinyunittester.log.level'
+ * (eg in 'junit-platform.properties'), by default 'OFF'
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PojoTesterExtension implements ParameterResolver {
+
+	/**
+	 * Configuration parameter for the log level of the shared tester
+	 */
+	public static final String LOG_LEVEL_PARAMETER = "tinyunittester.log.level";
+
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PojoTesterExtension.class);
+
+	@Override
+	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return parameterContext.getParameter().getType() == PojoUnitTester.class;
+	}
+
+	@Override
+	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return sharedTester(extensionContext);
+	}
+
+	/**
+	 * Returns the tester shared by all the tests (created on first call)
+	 * @param context
+	 * @return
+	 */
+	static PojoUnitTester sharedTester(ExtensionContext context) {
+		ExtensionContext root = context.getRoot();
+		// the root store creates the value only once, even with concurrent calls
+		return root.getStore(NAMESPACE).getOrComputeIfAbsent(PojoUnitTester.class, key -> createTester(root), PojoUnitTester.class);
+	}
+
+	private static PojoUnitTester createTester(ExtensionContext root) {
+		LogLevel logLevel = root.getConfigurationParameter(LOG_LEVEL_PARAMETER)
+				.map(level -> LogLevel.valueOf(level.trim().toUpperCase(Locale.ROOT)))
+				.orElse(LogLevel.OFF);
+		return PojoUnitTester.builder().logLevel(logLevel).build();
+	}
+}
@@ -0,0 +1,73 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.junit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.demo.pojo.Invalid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import tinyunittester.PojoFailure;
+import tinyunittester.PojoUnitTester;
+import tinyunittester.PojoUnitTester.PojoException;
+import tinyunittester.corpus.PojoCorpus;
+import tinyunittester.corpus.PojoCorpusGenerator;
+
+@PojoTest
+@Execution(ExecutionMode.CONCURRENT)
+public class PojoTesterExtensionTest {
+
+	@Test
+	public void testSharedTester(PojoUnitTester tester1, PojoUnitTester tester2) {
+		// a single tester for all the parameters
+		assertSame(tester1, tester2);
+	}
+
+	@Test
+	public void testSharedTesterConcurrently(PojoUnitTester tester) throws Exception {
+		PojoCorpus corpus = PojoCorpusGenerator.builder()
+				.classCount(50).propertyCount(20).bugRate(0.2).build().generate();
+		String expected = assertThrows(PojoException.class, () -> new PojoUnitTester().testAll(Invalid.class)).getMessage();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+			for (int i = 0 ; i < 8 ; i++) {
+				futures.add(executor.submit(() -> {
+					// same failures as a new tester, whatever the other threads
+					Map<String, String> failures = new HashMap<>();
+					for (PojoFailure failure : tester.testAll(corpus.getClasses()).getFailures()) {
+						failures.put(failure.getTestedClass().getName(), failure.getPropertyName());
+					}
+					assertEquals(corpus.getBuggyProperties(), failures);
+					return assertThrows(PojoException.class, () -> tester.testAll(Invalid.class)).getMessage();
+				}));
+			}
+			for (Future<String> future : futures) {
+				assertEquals(expected, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import tinyunittester.PojoTestListener;
+
+/**
+ * Base class for the report writers : the report is written as the events arrive (no document in memory) <br>
+ * The writes are serialized (the listener can be called by several threads) <br>
+ * A listener must not throw, so the first I/O error is kept and thrown by 'close()'
+ *
+ * @author Laurent Guerin
+ *
+ */
+abstract class AbstractReportWriter implements PojoTestListener, Closeable {
+
+	private final Writer out;
+	private boolean started = false; // guarded by 'this'
+	private boolean closed = false; // guarded by 'this'
+	private IOException error = null; // guarded by 'this'
+
+	protected AbstractReportWriter(Writer out) {
+		super();
+		this.out = out;
+	}
+
+	protected AbstractReportWriter(WritableByteChannel channel) {
+		this(Channels.newWriter(channel, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the beginning of the report (written before the first event)
+	 * @return
+	 */
+	protected abstract String header();
+
+	/**
+	 * Returns the end of the report (written by 'close()')
+	 * @return
+	 */
+	protected abstract String footer();
+
+	/**
+	 * Writes a part of the report (after the header)
+	 * @param text
+	 * @param flush true to make the report visible for the readers (eg end of a class)
+	 */
+	protected final synchronized void write(CharSequence text, boolean flush) {
+		if ( closed || error != null ) {
+			return;
+		}
+		try {
+			start();
+			out.append(text);
+			if ( flush ) {
+				out.flush();
+			}
+		} catch (IOException e) {
+			error = e;
+		}
+	}
+
+	private void start() throws IOException {
+		if ( ! started ) {
+			started = true;
+			out.write(header());
+		}
+	}
+
+	/**
+	 * Writes the end of the report and closes the destination
+	 * @throws IOException the first I/O error (if any)
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		try {
+			if ( error == null ) {
+				start();
+				out.write(footer());
+			}
+		} finally {
+			out.close();
+		}
+		if ( error != null ) {
+			throw error;
+		}
+	}
+
+	/**
+	 * Returns the duration in seconds (plain decimal notation)
+	 * @param nanos
+	 * @return
+	 */
+	protected static String seconds(long nanos) {
+		return BigDecimal.valueOf(nanos, 9).toPlainString();
+	}
+}
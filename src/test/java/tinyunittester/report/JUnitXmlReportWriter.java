@@ -0,0 +1,195 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.report;
+
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import tinyunittester.PojoFailure;
+import tinyunittester.PojoTestListener;
+import tinyunittester.PojoTestResult;
+import tinyunittester.PropertyAccessor;
+
+/**
+ * Report in JUnit XML format (1 'testsuite' for each class, 1 'testcase' for each property) <br>
+ * The 'testcase' elements of a class are kept until the end of the class (the 'testsuite' attributes
+ * need the counters), then the whole 'testsuite' is written : only the classes in progress are in memory <br>
+ * The classes in progress are kept for each run (see 'runStarted'), so the same class can be tested
+ * by concurrent runs
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class JUnitXmlReportWriter extends AbstractReportWriter {
+
+	private static final String CLASS_TESTCASE = "(instance)"; // testcase name for a failure of the class itself
+
+	private final Run defaultRun = new Run(); // events received without 'runStarted'
+
+	public JUnitXmlReportWriter(Writer out) {
+		super(out);
+	}
+
+	public JUnitXmlReportWriter(WritableByteChannel channel) {
+		super(channel);
+	}
+
+	@Override
+	protected String header() {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites>\n";
+	}
+
+	@Override
+	protected String footer() {
+		return "</testsuites>\n";
+	}
+
+	@Override
+	public PojoTestListener runStarted() {
+		return new Run();
+	}
+
+	@Override
+	public void classStarted(Class<?> testedClass) {
+		defaultRun.classStarted(testedClass);
+	}
+
+	@Override
+	public void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+		defaultRun.propertyVerified(testedClass, property, nanos);
+	}
+
+	@Override
+	public void propertyFailed(Class<?> testedClass, PropertyAccessor property, PojoFailure failure, long nanos) {
+		defaultRun.propertyFailed(testedClass, property, failure, nanos);
+	}
+
+	@Override
+	public void classFinished(Class<?> testedClass, PojoTestResult result, long nanos) {
+		defaultRun.classFinished(testedClass, result, nanos);
+	}
+
+	/**
+	 * Listener of a single run : 'testcase' elements of the classes in progress in this run
+	 */
+	private final class Run implements PojoTestListener {
+
+		private final ConcurrentMap<Class<?>, StringBuilder> classesInProgress = new ConcurrentHashMap<>();
+
+		@Override
+		public void classStarted(Class<?> testedClass) {
+			classesInProgress.put(testedClass, new StringBuilder());
+		}
+
+		@Override
+		public void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+			StringBuilder sb = testcases(testedClass);
+			synchronized (sb) {
+				testcase(sb, testedClass, property.getName(), nanos).append("/>\n");
+			}
+		}
+
+		@Override
+		public void propertyFailed(Class<?> testedClass, PropertyAccessor property, PojoFailure failure, long nanos) {
+			StringBuilder sb = testcases(testedClass);
+			synchronized (sb) {
+				testcase(sb, testedClass, property != null ? property.getName() : CLASS_TESTCASE, nanos).append(">\n");
+				// different values => 'failure', exception => 'error'
+				Throwable cause = failure.getCause();
+				String element = cause == null ? "failure" : "error";
+				sb.append("      <").append(element)
+					.append(" message=\"").append(escape(failure.getMessage())).append('"')
+					.append(" type=\"").append(cause == null ? PojoFailure.class.getName() : cause.getClass().getName()).append("\"/>\n");
+				sb.append("    </testcase>\n");
+			}
+		}
+
+		@Override
+		public void classFinished(Class<?> testedClass, PojoTestResult result, long nanos) {
+			StringBuilder testcases = classesInProgress.remove(testedClass);
+			int errors = 0;
+			int classErrors = 0; // failures of the class itself (1 more testcase)
+			for (PojoFailure failure : result.getFailures()) {
+				if ( failure.getCause() != null ) {
+					errors++;
+				}
+				if ( failure.getPropertyName() == null ) {
+					classErrors++;
+				}
+			}
+			StringBuilder sb = new StringBuilder(testcases != null ? testcases.length() + 200 : 200);
+			sb.append("  <testsuite name=\"").append(escape(testedClass.getName())).append('"')
+				.append(" tests=\"").append(result.getPropertyCount() + classErrors).append('"')
+				.append(" failures=\"").append(result.getFailures().size() - errors).append('"')
+				.append(" errors=\"").append(errors).append('"')
+				.append(" time=\"").append(seconds(nanos)).append("\">\n");
+			if ( testcases != null ) {
+				synchronized (testcases) {
+					sb.append(testcases);
+				}
+			}
+			sb.append("  </testsuite>\n");
+			write(sb, true);
+		}
+
+		private StringBuilder testcases(Class<?> testedClass) {
+			return classesInProgress.computeIfAbsent(testedClass, c -> new StringBuilder());
+		}
+	}
+
+	private static StringBuilder testcase(StringBuilder sb, Class<?> testedClass, String name, long nanos) {
+		return sb.append("    <testcase classname=\"").append(escape(testedClass.getName())).append('"')
+			.append(" name=\"").append(escape(name)).append('"')
+			.append(" time=\"").append(seconds(nanos)).append('"');
+	}
+
+	/**
+	 * Escapes a text for an XML attribute (invalid XML characters are replaced by '?')
+	 * @param text
+	 * @return
+	 */
+	static String escape(String text) {
+		if ( text == null ) {
+			return "";
+		}
+		StringBuilder sb = null;
+		for (int i = 0 ; i < text.length() ; i++) {
+			char c = text.charAt(i);
+			String replacement ;
+			switch (c) {
+			case '&' : replacement = "&amp;"; break;
+			case '<' : replacement = "&lt;"; break;
+			case '>' : replacement = "&gt;"; break;
+			case '"' : replacement = "&quot;"; break;
+			case '\n' : replacement = "&#10;"; break;
+			case '\r' : replacement = "&#13;"; break;
+			case '\t' : replacement = "&#9;"; break;
+			default :
+				replacement = ( c < 0x20 || c == 0xFFFE || c == 0xFFFF ) ? "?" : null;
+			}
+			if ( replacement != null && sb == null ) {
+				sb = new StringBuilder(text.length() + 16).append(text, 0, i);
+			}
+			if ( sb != null ) {
+				if ( replacement != null ) {
+					sb.append(replacement);
+				}
+				else {
+					sb.append(c);
+				}
+			}
+		}
+		return sb != null ? sb.toString() : text;
+	}
+}
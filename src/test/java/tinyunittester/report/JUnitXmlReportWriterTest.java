@@ -0,0 +1,148 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Imbalance;
+import org.demo.pojo.Invalid;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import tinyunittester.ColumnarResultStore;
+import tinyunittester.FailureMode;
+import tinyunittester.PojoTestResult;
+import tinyunittester.PojoUnitTester;
+
+public class JUnitXmlReportWriterTest {
+
+	/**
+	 * POJO without default constructor (failure of the class itself)
+	 */
+	public static class NoConstructor {
+		private int id;
+		public NoConstructor(int id) {
+			this.id = id;
+		}
+		public int getId() {
+			return id;
+		}
+		public void setId(int id) {
+			this.id = id;
+		}
+	}
+
+	/**
+	 * Counters of a 'testsuite' element : attributes checked against the 'testcase' elements
+	 * @return "tests/failures/errors" for each class name
+	 */
+	private static Map<String, String> parseSuites(String xml) throws Exception {
+		Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new InputSource(new StringReader(xml))).getDocumentElement();
+		assertEquals("testsuites", root.getTagName());
+		Map<String, String> suites = new HashMap<>();
+		NodeList list = root.getElementsByTagName("testsuite");
+		for (int i = 0 ; i < list.getLength() ; i++) {
+			Element suite = (Element) list.item(i);
+			String name = suite.getAttribute("name");
+			NodeList testcases = suite.getElementsByTagName("testcase");
+			for (int j = 0 ; j < testcases.getLength() ; j++) {
+				assertEquals(name, ((Element) testcases.item(j)).getAttribute("classname"));
+			}
+			String counters = testcases.getLength() + "/" + suite.getElementsByTagName("failure").getLength()
+					+ "/" + suite.getElementsByTagName("error").getLength();
+			assertEquals(counters, suite.getAttribute("tests") + "/" + suite.getAttribute("failures") + "/" + suite.getAttribute("errors"));
+			suites.merge(name, counters, (a, b) -> a + " " + b);
+		}
+		return suites;
+	}
+
+	@Test
+	public void testReport() throws Exception {
+		StringWriter xml = new StringWriter();
+		PojoTestResult result;
+		try ( JUnitXmlReportWriter report = new JUnitXmlReportWriter(xml) ) {
+			result = PojoUnitTester.builder().listener(report).failureMode(FailureMode.COLLECT_ALL).build()
+					.testAll(Employee.class, Invalid.class, NoConstructor.class);
+		}
+		assertEquals(2, result.getFailures().size());
+		Map<String, String> expected = new HashMap<>();
+		expected.put(Employee.class.getName(), "6/0/0");
+		expected.put(Invalid.class.getName(), "6/1/0");
+		expected.put(NoConstructor.class.getName(), "1/0/1");
+		assertEquals(expected, parseSuites(xml.toString()));
+	}
+
+	@Test
+	public void testConcurrentRunsOfSameClass() throws Exception {
+		StringWriter xml = new StringWriter();
+		int runs = 8;
+		ColumnarResultStore store = new ColumnarResultStore(); // with another listener (1 listener for each run)
+		try ( JUnitXmlReportWriter report = new JUnitXmlReportWriter(xml) ) {
+			PojoUnitTester tester = PojoUnitTester.builder().listener(report).listener(store)
+					.failureMode(FailureMode.COLLECT_ALL).build();
+			ExecutorService executor = Executors.newFixedThreadPool(runs);
+			try {
+				List<Future<PojoTestResult>> futures = new ArrayList<>();
+				for (int i = 0 ; i < runs ; i++) {
+					futures.add(executor.submit(() -> {
+						PojoTestResult result = null;
+						for (int n = 0 ; n < 100 ; n++) {
+							result = tester.testAll(Employee.class, Imbalance.class, Invalid.class);
+						}
+						return result;
+					}));
+				}
+				for (Future<PojoTestResult> future : futures) {
+					assertEquals(1, future.get().getFailures().size());
+				}
+			} finally {
+				executor.shutdown();
+			}
+		}
+		// each 'testsuite' with only the 'testcase' elements of its own run
+		Map<String, String> suites = parseSuites(xml.toString());
+		assertEquals(repeat("6/0/0", runs * 100), suites.get(Employee.class.getName()));
+		assertEquals(repeat("6/1/0", runs * 100), suites.get(Invalid.class.getName()));
+		assertEquals(runs * 100, store.failures(Invalid.class).size());
+	}
+
+	private static String repeat(String s, int count) {
+		StringBuilder sb = new StringBuilder(s);
+		for (int i = 1 ; i < count ; i++) {
+			sb.append(' ').append(s);
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testEscape() {
+		assertEquals("abc", JUnitXmlReportWriter.escape("abc"));
+		assertEquals("", JUnitXmlReportWriter.escape(null));
+		assertEquals("a&lt;b&gt; &amp; &quot;c&quot;&#10;d?e", JUnitXmlReportWriter.escape("a<b> & \"c\"\nd\u0001e"));
+	}
+}
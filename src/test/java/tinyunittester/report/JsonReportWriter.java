@@ -0,0 +1,133 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.report;
+
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+
+import tinyunittester.PojoFailure;
+import tinyunittester.PojoTestResult;
+import tinyunittester.PropertyAccessor;
+
+/**
+ * Report in JSON format : an object with an array of events, each event is written as soon as it arrives <br>
+ * Example : <br>
+ * {"events":[ <br>
+ * {"event":"classStarted","class":"org.demo.pojo.Employee"}, <br>
+ * {"event":"propertyVerified","class":"org.demo.pojo.Employee","property":"Id","nanos":1200}, <br>
+ * {"event":"propertyFailed","class":"org.demo.pojo.Invalid","property":"Name","nanos":900,"message":"..."}, <br>
+ * {"event":"classFinished","class":"org.demo.pojo.Invalid","properties":6,"failures":1,"nanos":52000} <br>
+ * ]}
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class JsonReportWriter extends AbstractReportWriter {
+
+	private boolean first = true; // guarded by 'this'
+
+	public JsonReportWriter(Writer out) {
+		super(out);
+	}
+
+	public JsonReportWriter(WritableByteChannel channel) {
+		super(channel);
+	}
+
+	@Override
+	protected String header() {
+		return "{\"events\":[\n";
+	}
+
+	@Override
+	protected String footer() {
+		return "\n]}\n";
+	}
+
+	@Override
+	public void classStarted(Class<?> testedClass) {
+		writeEvent(event("classStarted", testedClass).append('}'), false);
+	}
+
+	@Override
+	public void propertyVerified(Class<?> testedClass, PropertyAccessor property, long nanos) {
+		StringBuilder sb = event("propertyVerified", testedClass);
+		sb.append(",\"property\":").append(quote(property.getName()))
+			.append(",\"nanos\":").append(nanos).append('}');
+		writeEvent(sb, false);
+	}
+
+	@Override
+	public void propertyFailed(Class<?> testedClass, PropertyAccessor property, PojoFailure failure, long nanos) {
+		StringBuilder sb = event("propertyFailed", testedClass);
+		sb.append(",\"property\":").append(property != null ? quote(property.getName()) : "null")
+			.append(",\"nanos\":").append(nanos)
+			.append(",\"message\":").append(quote(failure.getMessage()));
+		if ( failure.getCause() != null ) {
+			sb.append(",\"exception\":").append(quote(failure.getCause().getClass().getName()));
+		}
+		sb.append('}');
+		writeEvent(sb, false);
+	}
+
+	@Override
+	public void classFinished(Class<?> testedClass, PojoTestResult result, long nanos) {
+		StringBuilder sb = event("classFinished", testedClass);
+		sb.append(",\"properties\":").append(result.getPropertyCount())
+			.append(",\"failures\":").append(result.getFailures().size())
+			.append(",\"nanos\":").append(nanos).append('}');
+		writeEvent(sb, true);
+	}
+
+	private static StringBuilder event(String event, Class<?> testedClass) {
+		return new StringBuilder(128).append("{\"event\":\"").append(event).append("\",\"class\":")
+				.append(quote(testedClass.getName()));
+	}
+
+	private synchronized void writeEvent(StringBuilder event, boolean flush) {
+		if ( ! first ) {
+			event.insert(0, ",\n");
+		}
+		first = false;
+		write(event, flush);
+	}
+
+	/**
+	 * Returns the given text as a JSON string (with quotes) or 'null'
+	 * @param text
+	 * @return
+	 */
+	static String quote(String text) {
+		if ( text == null ) {
+			return "null";
+		}
+		StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+		for (int i = 0 ; i < text.length() ; i++) {
+			char c = text.charAt(i);
+			switch (c) {
+			case '"' : sb.append("\\\""); break;
+			case '\\' : sb.append("\\\\"); break;
+			case '\n' : sb.append("\\n"); break;
+			case '\r' : sb.append("\\r"); break;
+			case '\t' : sb.append("\\t"); break;
+			default :
+				if ( c < 0x20 ) {
+					sb.append(String.format("\\u%04x", (int) c));
+				}
+				else {
+					sb.append(c);
+				}
+			}
+		}
+		return sb.append('"').toString();
+	}
+}
@@ -0,0 +1,211 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Invalid;
+import org.junit.jupiter.api.Test;
+
+import tinyunittester.FailureMode;
+import tinyunittester.PojoTestResult;
+import tinyunittester.PojoUnitTester;
+import tinyunittester.report.JUnitXmlReportWriterTest.NoConstructor;
+
+public class JsonReportWriterTest {
+
+	/**
+	 * Minimal JSON parser (objects, arrays, strings, numbers, booleans and null) : fails on invalid JSON
+	 */
+	private static final class JsonParser {
+		private final String text;
+		private int pos = 0;
+
+		private JsonParser(String text) {
+			this.text = text;
+		}
+
+		static Object parse(String text) {
+			JsonParser parser = new JsonParser(text);
+			Object value = parser.value();
+			parser.skipSpaces();
+			assertEquals(text.length(), parser.pos, "end of JSON");
+			return value;
+		}
+
+		private Object value() {
+			skipSpaces();
+			char c = text.charAt(pos);
+			if ( c == '{' ) {
+				Map<String, Object> map = new LinkedHashMap<>();
+				pos++;
+				if ( ! consume('}') ) {
+					do {
+						skipSpaces();
+						String key = string();
+						expect(':');
+						map.put(key, value());
+					} while ( consume(',') );
+					expect('}');
+				}
+				return map;
+			}
+			else if ( c == '[' ) {
+				List<Object> list = new ArrayList<>();
+				pos++;
+				if ( ! consume(']') ) {
+					do {
+						list.add(value());
+					} while ( consume(',') );
+					expect(']');
+				}
+				return list;
+			}
+			else if ( c == '"' ) {
+				return string();
+			}
+			else if ( text.startsWith("null", pos) ) {
+				pos += 4;
+				return null;
+			}
+			else if ( text.startsWith("true", pos) || text.startsWith("false", pos) ) {
+				boolean b = c == 't';
+				pos += b ? 4 : 5;
+				return b;
+			}
+			int start = pos;
+			while ( pos < text.length() && "-+.eE0123456789".indexOf(text.charAt(pos)) >= 0 ) {
+				pos++;
+			}
+			return Long.parseLong(text.substring(start, pos));
+		}
+
+		private String string() {
+			expect('"');
+			StringBuilder sb = new StringBuilder();
+			while ( true ) {
+				char c = text.charAt(pos++);
+				if ( c == '"' ) {
+					return sb.toString();
+				}
+				assertTrue(c >= 0x20, "control character in a JSON string");
+				if ( c == '\\' ) {
+					char e = text.charAt(pos++);
+					switch (e) {
+					case 'n' : sb.append('\n'); break;
+					case 'r' : sb.append('\r'); break;
+					case 't' : sb.append('\t'); break;
+					case 'u' : sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16)); pos += 4; break;
+					default : sb.append(e);
+					}
+				}
+				else {
+					sb.append(c);
+				}
+			}
+		}
+
+		private void skipSpaces() {
+			while ( pos < text.length() && Character.isWhitespace(text.charAt(pos)) ) {
+				pos++;
+			}
+		}
+
+		private boolean consume(char c) {
+			skipSpaces();
+			if ( pos < text.length() && text.charAt(pos) == c ) {
+				pos++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char c) {
+			assertTrue(consume(c), "'" + c + "' expected at " + pos);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Map<String, Object>> parseEvents(String json) {
+		Map<String, Object> root = (Map<String, Object>) JsonParser.parse(json);
+		assertEquals(1, root.size());
+		return (List<Map<String, Object>>) root.get("events");
+	}
+
+	@Test
+	public void testReport() throws Exception {
+		StringWriter json = new StringWriter();
+		PojoTestResult result;
+		try ( JsonReportWriter report = new JsonReportWriter(json) ) {
+			result = PojoUnitTester.builder().listener(report).failureMode(FailureMode.COLLECT_ALL).build()
+					.testAll(Employee.class, Invalid.class, NoConstructor.class);
+		}
+		Map<String, Integer> counts = new HashMap<>();
+		Map<String, String> finished = new HashMap<>();
+		Map<String, Map<String, Object>> failed = new HashMap<>(); // classes tested in parallel => by class
+		for (Map<String, Object> event : parseEvents(json.toString())) {
+			String type = (String) event.get("event");
+			counts.merge(type, 1, Integer::sum);
+			if ( type.equals("classFinished") ) {
+				finished.put((String) event.get("class"), event.get("properties") + "/" + event.get("failures"));
+			}
+			else if ( type.equals("propertyFailed") ) {
+				failed.put((String) event.get("class"), event);
+			}
+		}
+		assertEquals(3, counts.get("classStarted").intValue());
+		assertEquals(3, counts.get("classFinished").intValue());
+		assertEquals(result.getFailures().size(), counts.get("propertyFailed").intValue());
+		assertEquals(result.getPropertyCount() - 1, counts.get("propertyVerified").intValue());
+		Map<String, String> expected = new HashMap<>();
+		expected.put(Employee.class.getName(), "6/0");
+		expected.put(Invalid.class.getName(), "6/1");
+		expected.put(NoConstructor.class.getName(), "0/1");
+		assertEquals(expected, finished);
+		// different values
+		Map<String, Object> event = failed.get(Invalid.class.getName());
+		assertEquals("Name", event.get("property"));
+		assertEquals(result.getFailures().get(0).getMessage(), event.get("message"));
+		assertFalse(event.containsKey("exception"));
+		// failure of the class itself (no property, exception)
+		event = failed.get(NoConstructor.class.getName());
+		assertTrue(event.containsKey("property"));
+		assertNull(event.get("property"));
+		assertEquals(result.getFailures().get(1).getCause().getClass().getName(), event.get("exception"));
+	}
+
+	@Test
+	public void testEmptyReport() throws Exception {
+		StringWriter json = new StringWriter();
+		new JsonReportWriter(json).close();
+		assertTrue(parseEvents(json.toString()).isEmpty());
+	}
+
+	@Test
+	public void testQuote() {
+		String text = "a\"b\\c\nd\te\u0001f";
+		assertEquals("\"a\\\"b\\\\c\\nd\\te\\u0001f\"", JsonReportWriter.quote(text));
+		assertEquals(text, JsonParser.parse(JsonReportWriter.quote(text)));
+		assertEquals("null", JsonReportWriter.quote(null));
+	}
+}
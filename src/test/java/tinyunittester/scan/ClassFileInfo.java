@@ -0,0 +1,207 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.scan;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Minimal description of a class read directly from its class file (without loading the class, see 'ClassFileReader') <br>
+ * Only the constant pool, the access flags, the super class, the method table and the 'InnerClasses'
+ * attribute are read (fields and other attributes are skipped)
+ *
+ * @author Laurent Guerin
+ *
+ */
+final class ClassFileInfo {
+
+	private static final int ACC_PUBLIC = 0x0001;
+	private static final int ACC_STATIC = 0x0008;
+	private static final int ACC_INTERFACE = 0x0200;
+	private static final int ACC_ABSTRACT = 0x0400;
+	private static final int ACC_SYNTHETIC = 0x1000;
+	private static final int ACC_ANNOTATION = 0x2000;
+	private static final int ACC_ENUM = 0x4000;
+	private static final int ACC_MODULE = 0x8000;
+
+	private static final int NOT_CONCRETE = ACC_INTERFACE | ACC_ABSTRACT | ACC_SYNTHETIC | ACC_ANNOTATION | ACC_ENUM | ACC_MODULE;
+
+	private static final byte[] SET = { 's', 'e', 't' };
+	private static final byte[] GET = { 'g', 'e', 't' };
+	private static final byte[] IS = { 'i', 's' };
+	private static final byte[] INNER_CLASSES = "InnerClasses".getBytes(StandardCharsets.UTF_8);
+
+	private final String name;
+	private final String superName;
+	private final boolean eligible;
+	private final Set<String> setters;
+	private final Set<String> getters;
+
+	private ClassFileInfo(String name, String superName, boolean eligible, Set<String> setters, Set<String> getters) {
+		super();
+		this.name = name;
+		this.superName = superName;
+		this.eligible = eligible;
+		this.setters = setters;
+		this.getters = getters;
+	}
+
+	/**
+	 * Returns the class name (eg 'org.demo.pojo.Employee' or 'org.demo.pojo.Outer$Inner')
+	 * @return
+	 */
+	String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the super class name or null if none ('java.lang.Object')
+	 * @return
+	 */
+	String getSuperName() {
+		return superName;
+	}
+
+	/**
+	 * Returns true if the class is public, concrete, top level or static nested
+	 * @return
+	 */
+	boolean isEligible() {
+		return eligible;
+	}
+
+	/**
+	 * Returns the property names of the public setters declared in the class (1 parameter)
+	 * @return
+	 */
+	Set<String> getSetters() {
+		return setters;
+	}
+
+	/**
+	 * Returns the property names of the public getters declared in the class ('getXxx' or 'isXxx', no parameter)
+	 * @return
+	 */
+	Set<String> getGetters() {
+		return getters;
+	}
+
+	/**
+	 * Parses the given class file
+	 * @param buffer the class file bytes (from the current position)
+	 * @return
+	 * @throws IllegalArgumentException if the bytes are not a valid class file
+	 */
+	static ClassFileInfo parse(ByteBuffer buffer) {
+		try {
+			return read(new ClassFileReader(buffer));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid class file", e);
+		}
+	}
+
+	private static ClassFileInfo read(ClassFileReader reader) {
+		int access = reader.u2();
+		int thisClass = reader.u2();
+		int superClass = reader.u2();
+		reader.skipInterfacesAndFields();
+		Set<String> setters = new HashSet<>();
+		Set<String> getters = new HashSet<>();
+		int methodCount = reader.u2();
+		for (int i = 0 ; i < methodCount ; i++) {
+			readMethod(reader, setters, getters);
+		}
+		// class attributes : only 'InnerClasses' (for a nested class the real modifiers are there)
+		boolean eligible = ( access & ACC_PUBLIC ) != 0 && ( access & NOT_CONCRETE ) == 0;
+		int attributeCount = reader.u2();
+		for (int i = 0 ; i < attributeCount ; i++) {
+			int nameIndex = reader.u2();
+			int length = reader.u4();
+			int end = reader.position() + length;
+			if ( reader.utf8Equals(nameIndex, INNER_CLASSES) ) {
+				int classes = reader.u2();
+				for (int k = 0 ; k < classes ; k++) {
+					int inner = reader.u2();
+					int outer = reader.u2();
+					reader.skip(2); // inner name
+					int innerAccess = reader.u2();
+					if ( inner == thisClass ) {
+						// local or anonymous class (no outer class) or not public static member
+						eligible = eligible && outer != 0
+								&& ( innerAccess & ( ACC_PUBLIC | ACC_STATIC ) ) == ( ACC_PUBLIC | ACC_STATIC );
+					}
+				}
+			}
+			reader.position(end);
+		}
+		String name = reader.className(thisClass);
+		String superName = superClass != 0 ? reader.className(superClass) : null;
+		if ( "java.lang.Object".equals(superName) ) {
+			superName = null;
+		}
+		return new ClassFileInfo(name, superName, eligible,
+				setters.isEmpty() ? Collections.emptySet() : setters,
+				getters.isEmpty() ? Collections.emptySet() : getters);
+	}
+
+	private static void readMethod(ClassFileReader reader, Set<String> setters, Set<String> getters) {
+		int access = reader.u2();
+		int nameIndex = reader.u2();
+		int descriptorIndex = reader.u2();
+		reader.skipAttributes();
+		if ( ( access & ACC_PUBLIC ) == 0 || ( access & ( ACC_STATIC | ACC_ABSTRACT ) ) != 0 ) {
+			return;
+		}
+		// names decoded only for the possible accessors
+		if ( reader.utf8StartsWith(nameIndex, SET) ) {
+			if ( parameterCount(reader.utf8(descriptorIndex)) == 1 ) {
+				setters.add(reader.utf8(nameIndex).substring(SET.length));
+			}
+		}
+		else if ( reader.utf8StartsWith(nameIndex, GET) || reader.utf8StartsWith(nameIndex, IS) ) {
+			String descriptor = reader.utf8(descriptorIndex);
+			if ( descriptor.startsWith("()") && ! descriptor.endsWith("V") ) {
+				String methodName = reader.utf8(nameIndex);
+				getters.add(methodName.substring(methodName.charAt(0) == 'g' ? GET.length : IS.length));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of parameters in a method descriptor (eg '(ILjava/lang/String;[J)V' : 3)
+	 * @param descriptor
+	 * @return
+	 */
+	static int parameterCount(String descriptor) {
+		int count = 0;
+		int i = 1; // after '('
+		while ( descriptor.charAt(i) != ')' ) {
+			while ( descriptor.charAt(i) == '[' ) {
+				i++;
+			}
+			if ( descriptor.charAt(i) == 'L' ) {
+				i = descriptor.indexOf(';', i);
+			}
+			i++;
+			count++;
+		}
+		return count;
+	}
+
+	@Override
+	public String toString() {
+		return name + ( eligible ? "" : " (not eligible)" ) + " setters=" + setters + " getters=" + getters;
+	}
+}
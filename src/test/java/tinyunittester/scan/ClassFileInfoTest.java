@@ -0,0 +1,180 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.demo.pojo.Employee;
+import org.junit.jupiter.api.Test;
+
+public class ClassFileInfoTest {
+
+	public static class Pojo {
+		private int a;
+		private boolean flag;
+		public int getA() {
+			return a;
+		}
+		public void setA(int a) {
+			this.a = a;
+		}
+		public boolean isFlag() {
+			return flag;
+		}
+		public void setFlag(boolean flag) {
+			this.flag = flag;
+		}
+		// not accessors
+		public static int getStatic() {
+			return 0;
+		}
+		public static void setStatic(int i) {
+		}
+		int getPackage() {
+			return 0;
+		}
+		void setPackage(int i) {
+		}
+		public void setTwo(int i, int j) {
+		}
+		public void getVoid() {
+		}
+		public int getWithParameter(int i) {
+			return i;
+		}
+	}
+
+	public static class SetterOnly {
+		public void setA(int a) {
+		}
+	}
+
+	public static class GetterOnly {
+		public int getA() {
+			return 0;
+		}
+	}
+
+	public static class DifferentProperties {
+		public void setA(int a) {
+		}
+		public int getB() {
+			return 0;
+		}
+	}
+
+	public static class SubPojo extends Pojo {
+	}
+
+	public static class SubSetterOnly extends SetterOnly {
+		public int getA() {
+			return 0;
+		}
+	}
+
+	public static class ExternalSubPojo extends Employee {
+	}
+
+	public abstract static class AbstractPojo extends Pojo {
+	}
+
+	public class InnerPojo extends Pojo {
+	}
+
+	static class PackagePojo extends Pojo {
+	}
+
+	public interface PojoInterface {
+		int getA();
+		void setA(int a);
+	}
+
+	public enum PojoEnum {
+		A;
+		public int getA() {
+			return 0;
+		}
+		public void setA(int a) {
+		}
+	}
+
+	private static ClassFileInfo parse(Class<?> clazz) throws IOException {
+		String fileName = clazz.getName().substring(clazz.getName().lastIndexOf('.') + 1) + ".class";
+		try ( InputStream in = clazz.getResourceAsStream(fileName) ) {
+			return ClassFileInfo.parse(ByteBuffer.wrap(in.readAllBytes()));
+		}
+	}
+
+	private static Set<String> set(String... names) {
+		return new HashSet<>(Arrays.asList(names));
+	}
+
+	@Test
+	public void testAccessors() throws IOException {
+		ClassFileInfo info = parse(Pojo.class);
+		assertEquals(Pojo.class.getName(), info.getName());
+		assertNull(info.getSuperName());
+		assertTrue(info.isEligible());
+		// public, not static, 1 parameter for a setter, no parameter and not void for a getter
+		assertEquals(set("A", "Flag"), info.getSetters());
+		assertEquals(set("A", "Flag"), info.getGetters());
+		assertEquals(set("A"), parse(SetterOnly.class).getSetters());
+		assertEquals(Collections.emptySet(), parse(SetterOnly.class).getGetters());
+		assertEquals(Pojo.class.getName(), parse(SubPojo.class).getSuperName());
+		assertEquals(Collections.emptySet(), parse(SubPojo.class).getSetters());
+	}
+
+	@Test
+	public void testEligible() throws IOException {
+		assertTrue(parse(SubPojo.class).isEligible());
+		assertFalse(parse(AbstractPojo.class).isEligible());
+		assertFalse(parse(InnerPojo.class).isEligible());
+		assertFalse(parse(PackagePojo.class).isEligible());
+		assertFalse(parse(PojoInterface.class).isEligible());
+		assertFalse(parse(PojoEnum.class).isEligible());
+		assertFalse(parse(new Pojo() { }.getClass()).isEligible());
+		assertTrue(parse(Employee.class).isEligible());
+	}
+
+	@Test
+	public void testCandidates() {
+		// setter and getter for the same property, declared or inherited (super class in the package tree or not)
+		assertEquals(Arrays.asList(ExternalSubPojo.class.getName(), Pojo.class.getName(), SubPojo.class.getName(),
+				SubSetterOnly.class.getName()),
+				PackageScanner.builder().packageName("tinyunittester.scan").include("*.ClassFileInfoTest$*").build().scanNames());
+	}
+
+	@Test
+	public void testParameterCount() {
+		assertEquals(0, ClassFileInfo.parameterCount("()V"));
+		assertEquals(1, ClassFileInfo.parameterCount("([[Ljava/lang/String;)V"));
+		assertEquals(4, ClassFileInfo.parameterCount("(ILjava/lang/String;[JZ)V"));
+	}
+
+	@Test
+	public void testInvalidClassFile() {
+		assertThrows(IllegalArgumentException.class, () -> ClassFileInfo.parse(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 })));
+		assertThrows(IllegalArgumentException.class, () -> ClassFileInfo.parse(ByteBuffer.wrap(new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE })));
+	}
+}
@@ -0,0 +1,194 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.scan;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal class file reader shared by the package scanner ('ClassFileInfo') and the static verification
+ * of the accessors (internal use, public only to be usable from the 'tinyunittester' package) <br>
+ * The constant pool is indexed when the reader is created (position of each entry), its entries are decoded
+ * only on demand, then the rest of the class file is read sequentially from the access flags <br>
+ * The names are decoded as standard UTF-8 (same as the 'modified UTF-8' of the class files for the usual identifiers) <br>
+ * An invalid class file throws a 'RuntimeException' (eg 'IllegalArgumentException', 'BufferUnderflowException')
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class ClassFileReader {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	// constant pool tags
+	public static final int CONSTANT_UTF8 = 1;
+	public static final int CONSTANT_CLASS = 7;
+	public static final int CONSTANT_FIELDREF = 9;
+	public static final int CONSTANT_NAME_AND_TYPE = 12;
+
+	private final ByteBuffer buffer;
+	private final int[] offsets; // position of each constant pool entry (after the tag)
+	private final byte[] tags;
+
+	/**
+	 * Constructor : reads the header and the constant pool
+	 * @param buffer the class file bytes (from the current position)
+	 */
+	public ClassFileReader(ByteBuffer buffer) {
+		super();
+		this.buffer = buffer;
+		if ( buffer.getInt() != MAGIC ) {
+			throw new IllegalArgumentException("Invalid magic number");
+		}
+		skip(4); // minor and major versions
+		int count = u2();
+		offsets = new int[count];
+		tags = new byte[count];
+		for (int i = 1 ; i < count ; i++) {
+			int tag = buffer.get() & 0xFF;
+			tags[i] = (byte) tag;
+			offsets[i] = buffer.position();
+			switch (tag) {
+			case CONSTANT_UTF8 : skip(u2()); break;
+			case 3 : case 4 : skip(4); break; // Integer, Float
+			case 5 : case 6 : skip(8); i++; break; // Long, Double (2 entries)
+			case CONSTANT_CLASS : case 8 : case 16 : case 19 : case 20 : skip(2); break; // Class, String, MethodType, Module, Package
+			case CONSTANT_FIELDREF : case 10 : case 11 : case CONSTANT_NAME_AND_TYPE : case 17 : case 18 : skip(4); break; // refs, NameAndType, Dynamic, InvokeDynamic
+			case 15 : skip(3); break; // MethodHandle
+			default : throw new IllegalArgumentException("Invalid constant pool tag " + tag);
+			}
+		}
+	}
+
+	/**
+	 * Skips the interfaces and the fields (after access flags, this class and super class)
+	 */
+	public void skipInterfacesAndFields() {
+		skip(2 * u2()); // interfaces
+		int fieldCount = u2();
+		for (int i = 0 ; i < fieldCount ; i++) {
+			skip(6); // access flags, name, descriptor
+			skipAttributes();
+		}
+	}
+
+	public void skipAttributes() {
+		int count = u2();
+		for (int i = 0 ; i < count ; i++) {
+			skip(2);
+			skip(u4());
+		}
+	}
+
+	public int position() {
+		return buffer.position();
+	}
+
+	public void position(int position) {
+		buffer.position(position);
+	}
+
+	public void skip(int length) {
+		buffer.position(buffer.position() + length);
+	}
+
+	/**
+	 * Returns the unsigned byte at the given position (absolute)
+	 * @param position
+	 * @return
+	 */
+	public int u1(int position) {
+		return buffer.get(position) & 0xFF;
+	}
+
+	public int u2() {
+		return buffer.getShort() & 0xFFFF;
+	}
+
+	/**
+	 * Returns the unsigned short at the given position (absolute)
+	 * @param position
+	 * @return
+	 */
+	public int u2(int position) {
+		return buffer.getShort(position) & 0xFFFF;
+	}
+
+	public int u4() {
+		return buffer.getInt();
+	}
+
+	/**
+	 * Returns the position of a constant pool entry (after the tag) after checking its tag
+	 * @param index
+	 * @param tag
+	 * @return
+	 */
+	public int entry(int index, int tag) {
+		if ( index <= 0 || index >= tags.length || tags[index] != tag ) {
+			throw new IllegalArgumentException("Invalid constant pool index " + index);
+		}
+		return offsets[index];
+	}
+
+	/**
+	 * Returns the string of a 'CONSTANT_Utf8' entry
+	 * @param index
+	 * @return
+	 */
+	public String utf8(int index) {
+		int offset = entry(index, CONSTANT_UTF8);
+		byte[] bytes = new byte[u2(offset)];
+		ByteBuffer slice = buffer.duplicate();
+		slice.position(offset + 2);
+		slice.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns true if the 'CONSTANT_Utf8' entry starts with the given bytes (no decoding)
+	 * @param index
+	 * @param prefix
+	 * @return
+	 */
+	public boolean utf8StartsWith(int index, byte[] prefix) {
+		int offset = entry(index, CONSTANT_UTF8);
+		if ( u2(offset) < prefix.length ) {
+			return false;
+		}
+		for (int i = 0 ; i < prefix.length ; i++) {
+			if ( buffer.get(offset + 2 + i) != prefix[i] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the 'CONSTANT_Utf8' entry is equal to the given bytes (no decoding)
+	 * @param index
+	 * @param value
+	 * @return
+	 */
+	public boolean utf8Equals(int index, byte[] value) {
+		return utf8StartsWith(index, value) && u2(offsets[index]) == value.length;
+	}
+
+	/**
+	 * Returns the class name of a 'CONSTANT_Class' entry (eg 'org.demo.pojo.Employee')
+	 * @param index
+	 * @return
+	 */
+	public String className(int index) {
+		return utf8(u2(entry(index, CONSTANT_CLASS))).replace('/', '.');
+	}
+}
@@ -0,0 +1,437 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.scan;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the POJO classes of a package tree (the package and its sub-packages) in the classpath <br>
+ * The classpath roots (directories and jars) are walked in parallel and the class files are read
+ * directly (constant pool and method table) to find the candidates without loading the classes <br>
+ * A candidate class is public, concrete (not abstract, not an interface/enum/annotation),
+ * top level or static nested, with at least 1 pair of public accessors (setter and 'getXxx' or 'isXxx' getter),
+ * declared or inherited <br>
+ * The class names are filtered with the include/exclude patterns, then only the candidates are loaded
+ * (without initialization : the static initializers run only when a class is tested) <br>
+ * The classes that cannot be loaded (eg missing dependency) are ignored
+ *
+ * @author Laurent Guerin
+ *
+ */
+public final class PackageScanner {
+
+	private static final String CLASS_SUFFIX = ".class";
+	private static final String JAR_SUFFIX = ".jar";
+
+	/**
+	 * Min size of a class file to be memory-mapped
+	 */
+	static final int MAPPING_THRESHOLD = 16 * 1024;
+
+	/**
+	 * Builder for a scanner with specific options
+	 */
+	public static class Builder {
+		private String packageName = "";
+		private final List<String> includes = new ArrayList<>();
+		private final List<String> excludes = new ArrayList<>();
+		private ClassLoader classLoader = null;
+
+		private Builder() {
+		}
+
+		/**
+		 * Root package to be scanned (with all its sub-packages)
+		 */
+		public Builder packageName(String packageName) {
+			this.packageName = packageName;
+			return this;
+		}
+
+		/**
+		 * Adds an include pattern for the fully qualified class names ('*' any characters, '?' a single character) <br>
+		 * Without include pattern all the classes are included
+		 */
+		public Builder include(String pattern) {
+			this.includes.add(pattern);
+			return this;
+		}
+
+		/**
+		 * Adds an exclude pattern for the fully qualified class names ('*' any characters, '?' a single character)
+		 */
+		public Builder exclude(String pattern) {
+			this.excludes.add(pattern);
+			return this;
+		}
+
+		/**
+		 * Class loader used to find and load the classes (by default the thread context class loader)
+		 */
+		public Builder classLoader(ClassLoader classLoader) {
+			this.classLoader = classLoader;
+			return this;
+		}
+
+		public PackageScanner build() {
+			return new PackageScanner(this);
+		}
+	}
+
+	private final String packageName;
+	private final List<Pattern> includes;
+	private final List<Pattern> excludes;
+	private final ClassLoader classLoader;
+
+	private PackageScanner(Builder builder) {
+		super();
+		this.packageName = builder.packageName;
+		this.includes = builder.includes.stream().map(PackageScanner::globToRegex).collect(Collectors.toList());
+		this.excludes = builder.excludes.stream().map(PackageScanner::globToRegex).collect(Collectors.toList());
+		this.classLoader = builder.classLoader != null ? builder.classLoader
+				: Objects.requireNonNull(Thread.currentThread().getContextClassLoader(), "No context class loader");
+	}
+
+	/**
+	 * Returns a builder to create a scanner with specific options
+	 * @return
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns a scanner for the given package tree (without include/exclude patterns)
+	 * @param packageName
+	 * @return
+	 */
+	public static PackageScanner of(String packageName) {
+		return builder().packageName(packageName).build();
+	}
+
+	/**
+	 * Returns all the candidate classes (sorted by name) <br>
+	 * Only the candidate classes are loaded (not initialized)
+	 * @return
+	 */
+	public List<Class<?>> scan() {
+		return scanNames().parallelStream()
+				.map(this::loadClass)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the names of all the candidate classes (sorted by name) <br>
+	 * The candidates are found by reading the class files, so the classes are not loaded,
+	 * except if a class inherits from a class outside the scanned package tree
+	 * (then the class is loaded, not initialized, to check its inherited accessors)
+	 * @return
+	 */
+	public List<String> scanNames() {
+		Map<String, ClassFileInfo> index = new HashMap<>();
+		for (ClassFileInfo info : scanClassFiles()) {
+			index.putIfAbsent(info.getName(), info); // first in classpath order
+		}
+		return index.values().parallelStream()
+				.filter(info -> info.isEligible() && isIncluded(info.getName()))
+				.filter(info -> isCandidate(info, index))
+				.map(ClassFileInfo::getName)
+				.sorted()
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns true if the class has at least 1 pair of accessors (setter + getter for the same property)
+	 * including the accessors inherited from the classes of the index
+	 * @param info
+	 * @param index
+	 * @return
+	 */
+	private boolean isCandidate(ClassFileInfo info, Map<String, ClassFileInfo> index) {
+		if ( hasPair(info.getSetters(), info.getGetters()) ) {
+			return true;
+		}
+		Set<String> setters = new HashSet<>(info.getSetters());
+		Set<String> getters = new HashSet<>(info.getGetters());
+		String superName = info.getSuperName();
+		while ( superName != null ) {
+			ClassFileInfo superInfo = index.get(superName);
+			if ( superInfo == null ) {
+				// super class outside the package tree => check with reflection
+				Class<?> clazz = loadClass(info.getName());
+				return clazz != null && isCandidate(clazz);
+			}
+			setters.addAll(superInfo.getSetters());
+			getters.addAll(superInfo.getGetters());
+			superName = superInfo.getSuperName();
+		}
+		return hasPair(setters, getters);
+	}
+
+	private static boolean hasPair(Set<String> setters, Set<String> getters) {
+		for (String property : setters) {
+			if ( getters.contains(property) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reads all the class files found in the package tree (each root is walked in parallel)
+	 * @return
+	 */
+	private List<ClassFileInfo> scanClassFiles() {
+		String path = packageName.replace('.', '/');
+		Set<Path> directories = new LinkedHashSet<>();
+		Set<Path> jars = new LinkedHashSet<>();
+		try {
+			for (URL root : Collections.list(classLoader.getResources(path))) {
+				if ( "file".equals(root.getProtocol()) ) {
+					directories.add(Paths.get(root.toURI()));
+				}
+				else if ( "jar".equals(root.getProtocol()) ) {
+					jars.add(Paths.get(((JarURLConnection) root.openConnection()).getJarFileURL().toURI()));
+				}
+				// else unsupported (eg 'jrt')
+			}
+		} catch (IOException | URISyntaxException e) {
+			throw new IllegalStateException("Cannot find package '" + packageName + "'", e);
+		}
+		// a jar without directory entries is not returned by 'getResources' => all the jars of the classpath
+		jars.addAll(classpathJars());
+		return Stream.concat(
+					directories.parallelStream().map(this::scanDirectory),
+					jars.parallelStream().map(jar -> scanJar(jar, path)) )
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the jars of the class loader (if known)
+	 * @return
+	 */
+	private List<Path> classpathJars() {
+		List<Path> jars = new ArrayList<>();
+		if ( classLoader instanceof URLClassLoader ) {
+			for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+				if ( "file".equals(url.getProtocol()) && url.getPath().endsWith(JAR_SUFFIX) ) {
+					try {
+						jars.add(Paths.get(url.toURI()));
+					} catch (URISyntaxException e) {
+						// ignored
+					}
+				}
+			}
+		}
+		else if ( classLoader == ClassLoader.getSystemClassLoader() ) {
+			for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+				if ( entry.endsWith(JAR_SUFFIX) ) {
+					jars.add(Paths.get(entry).toAbsolutePath());
+				}
+			}
+		}
+		return jars;
+	}
+
+	private List<ClassFileInfo> scanDirectory(Path directory) {
+		List<Path> files ;
+		try ( Stream<Path> paths = Files.walk(directory) ) {
+			files = paths.filter(PackageScanner::isClassFile).collect(Collectors.toList());
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot scan '" + directory + "'", e);
+		}
+		return files.parallelStream()
+				.map(PackageScanner::readClassFile)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Reads the class files of the package tree in a jar (with a zip file system)
+	 * @param jarFile
+	 * @param path
+	 * @return
+	 */
+	private List<ClassFileInfo> scanJar(Path jarFile, String path) {
+		if ( ! Files.isRegularFile(jarFile) ) {
+			return Collections.emptyList();
+		}
+		try ( FileSystem zip = FileSystems.newFileSystem(jarFile, (ClassLoader) null) ) {
+			Path directory = zip.getPath("/" + path);
+			if ( ! Files.isDirectory(directory) ) {
+				return Collections.emptyList();
+			}
+			List<Path> files ;
+			try ( Stream<Path> paths = Files.walk(directory) ) {
+				files = paths.filter(PackageScanner::isClassFile).collect(Collectors.toList());
+			}
+			return files.parallelStream()
+					.map(PackageScanner::readClassFile)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toList());
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot scan '" + jarFile + "'", e);
+		}
+	}
+
+	private static boolean isClassFile(Path file) {
+		String fileName = file.getFileName() != null ? file.getFileName().toString() : "";
+		return fileName.endsWith(CLASS_SUFFIX) && ! fileName.equals("module-info.class")
+				&& ! fileName.equals("package-info.class") && Files.isRegularFile(file);
+	}
+
+	/**
+	 * Reads a class file : memory-mapped if large enough, else read in a heap buffer (a mapping costs
+	 * more than a read for a few KB) <br>
+	 * Returns null if the file is not a valid class file
+	 * @param file
+	 * @return
+	 */
+	static ClassFileInfo readClassFile(Path file) {
+		try {
+			ByteBuffer buffer ;
+			if ( file.getFileSystem() == FileSystems.getDefault() ) {
+				try ( FileChannel channel = FileChannel.open(file, StandardOpenOption.READ) ) {
+					long size = channel.size();
+					if ( size >= MAPPING_THRESHOLD ) {
+						buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+					}
+					else {
+						buffer = ByteBuffer.allocate((int) size);
+						while ( buffer.hasRemaining() && channel.read(buffer) >= 0 ) {
+							// read until the end
+						}
+						buffer.flip();
+					}
+				}
+			}
+			else {
+				buffer = ByteBuffer.wrap(Files.readAllBytes(file)); // zip file system
+			}
+			return ClassFileInfo.parse(buffer);
+		} catch (IOException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private boolean isIncluded(String className) {
+		if ( ! includes.isEmpty() && includes.stream().noneMatch(p -> p.matcher(className).matches()) ) {
+			return false;
+		}
+		return excludes.stream().noneMatch(p -> p.matcher(className).matches());
+	}
+
+	private Class<?> loadClass(String className) {
+		try {
+			return Class.forName(className, false, classLoader);
+		} catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns true if the given class is a POJO to be tested (reflection, only for a class with a super class outside the package tree)
+	 * @param clazz
+	 * @return
+	 */
+	static boolean isCandidate(Class<?> clazz) {
+		int modifiers = clazz.getModifiers();
+		if ( ! Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)
+				|| clazz.isInterface() || clazz.isEnum() || clazz.isAnnotation() || clazz.isSynthetic()
+				|| clazz.isAnonymousClass() || clazz.isLocalClass()
+				|| ( clazz.isMemberClass() && ! Modifier.isStatic(modifiers) ) ) {
+			return false;
+		}
+		Set<String> setters = new HashSet<>();
+		Set<String> getters = new HashSet<>();
+		try {
+			for (Method method : clazz.getMethods()) {
+				if ( Modifier.isStatic(method.getModifiers()) || Modifier.isAbstract(method.getModifiers()) ) {
+					continue;
+				}
+				String name = method.getName();
+				if ( name.startsWith("set") && method.getParameterCount() == 1 ) {
+					setters.add(name.substring(3));
+				}
+				else if ( method.getParameterCount() == 0 && method.getReturnType() != void.class ) {
+					if ( name.startsWith("get") ) {
+						getters.add(name.substring(3));
+					}
+					else if ( name.startsWith("is") ) {
+						getters.add(name.substring(2));
+					}
+				}
+			}
+		} catch (LinkageError e) {
+			return false; // missing dependency in a method signature
+		}
+		return hasPair(setters, getters);
+	}
+
+	/**
+	 * Converts a glob pattern ('*' and '?') to a regular expression
+	 * @param glob
+	 * @return
+	 */
+	private static Pattern globToRegex(String glob) {
+		StringBuilder sb = new StringBuilder(glob.length() + 16);
+		int start = 0;
+		for (int i = 0 ; i < glob.length() ; i++) {
+			char c = glob.charAt(i);
+			if ( c == '*' || c == '?' ) {
+				if ( i > start ) {
+					sb.append(Pattern.quote(glob.substring(start, i)));
+				}
+				sb.append(c == '*' ? ".*" : ".");
+				start = i + 1;
+			}
+		}
+		if ( start < glob.length() ) {
+			sb.append(Pattern.quote(glob.substring(start)));
+		}
+		return Pattern.compile(sb.toString());
+	}
+
+	@Override
+	public String toString() {
+		return "PackageScanner '" + packageName + "' includes=" + includes + " excludes=" + excludes;
+	}
+}
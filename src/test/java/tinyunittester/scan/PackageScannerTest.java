@@ -0,0 +1,182 @@
+/**
+ * This source code is licensed under the MIT license.
+ * You may obtain a copy of the License at
+ *      https://opensource.org/licenses/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tinyunittester.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.ToolProvider;
+
+import org.demo.pojo.Employee;
+import org.demo.pojo.Imbalance;
+import org.demo.pojo.Invalid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tinyunittester.PojoTestResult;
+import tinyunittester.PojoUnitTester;
+
+public class PackageScannerTest {
+
+	private static final String POJO = "public class %s { private int v; public int getV() { return v; } public void setV(int v) { this.v = v; } }";
+
+	/**
+	 * Compiles the given sources ("package.Name", source without package declaration, ...) in 'dir/classes'
+	 * @return the classes directory
+	 */
+	static Path compile(Path dir, String... sources) throws IOException {
+		Path classes = Files.createDirectories(dir.resolve("classes"));
+		List<String> args = new ArrayList<>(Arrays.asList("-d", classes.toString()));
+		for (int i = 0 ; i < sources.length ; i += 2) {
+			String className = sources[i];
+			int dot = className.lastIndexOf('.');
+			Path file = dir.resolve("src").resolve(className.replace('.', '/') + ".java");
+			Files.createDirectories(file.getParent());
+			Files.write(file, ("package " + className.substring(0, dot) + "; " + sources[i + 1]).getBytes());
+			args.add(file.toString());
+		}
+		assertEquals(0, ToolProvider.getSystemJavaCompiler().run(null, null, null, args.toArray(new String[0])));
+		return classes;
+	}
+
+	/**
+	 * Creates a jar with all the files of the given directory
+	 */
+	static Path jar(Path classes, Path jarFile, boolean directoryEntries) throws IOException {
+		List<Path> paths;
+		try ( Stream<Path> stream = Files.walk(classes) ) {
+			paths = stream.filter(p -> ! p.equals(classes)).sorted().collect(Collectors.toList());
+		}
+		try ( OutputStream out = Files.newOutputStream(jarFile) ; JarOutputStream jar = new JarOutputStream(out) ) {
+			for (Path path : paths) {
+				String name = classes.relativize(path).toString().replace('\\', '/');
+				if ( Files.isDirectory(path) ) {
+					if ( directoryEntries ) {
+						jar.putNextEntry(new JarEntry(name + "/"));
+						jar.closeEntry();
+					}
+				}
+				else {
+					jar.putNextEntry(new JarEntry(name));
+					Files.copy(path, jar);
+					jar.closeEntry();
+				}
+			}
+		}
+		return jarFile;
+	}
+
+	private static List<String> names(List<Class<?>> classes) {
+		return classes.stream().map(Class::getName).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testPackage() {
+		PojoTestResult result = new PojoUnitTester().testPackage("org.demo.pojo");
+		assertEquals(3, result.getClassCount());
+		// ERROR in 'Invalid' POJO
+		assertEquals(1, result.getFailures().size());
+		assertEquals(Invalid.class, result.getFailures().get(0).getTestedClass());
+		// without 'Invalid'
+		assertTrue(new PojoUnitTester().testPackage(PackageScanner.builder().packageName("org.demo").exclude("*.Invalid").build()).isSuccess());
+		assertEquals(Arrays.asList(Employee.class, Imbalance.class, Invalid.class), PackageScanner.of("org.demo.pojo").scan());
+	}
+
+	@Test
+	public void testDirectoryAndJar(@TempDir Path dir) throws Exception {
+		Path classes = compile(dir,
+				"p.Pojo", String.format(POJO, "Pojo"),
+				"p.sub.SubPojo", String.format(POJO, "SubPojo"),
+				"p.NoGetter", "public class NoGetter { public void setV(int v) { } }",
+				"other.OtherPojo", String.format(POJO, "OtherPojo"));
+		List<String> expected = Arrays.asList("p.Pojo", "p.sub.SubPojo");
+		List<Path> roots = Arrays.asList(classes,
+				jar(classes, dir.resolve("with-directories.jar"), true),
+				jar(classes, dir.resolve("without-directories.jar"), false));
+		for (Path root : roots) {
+			try ( URLClassLoader loader = new URLClassLoader(new URL[] { root.toUri().toURL() }, getClass().getClassLoader()) ) {
+				PackageScanner scanner = PackageScanner.builder().packageName("p").classLoader(loader).build();
+				assertEquals(expected, scanner.scanNames(), root.toString());
+				List<Class<?>> found = scanner.scan();
+				assertEquals(expected, names(found));
+				assertEquals(loader, found.get(0).getClassLoader());
+			}
+		}
+	}
+
+	@Test
+	public void testPatterns(@TempDir Path dir) throws Exception {
+		Path classes = compile(dir,
+				"p.Pojo", String.format(POJO, "Pojo"),
+				"p.Pojo2", String.format(POJO, "Pojo2"),
+				"p.sub.SubPojo", String.format(POJO, "SubPojo"));
+		try ( URLClassLoader loader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, getClass().getClassLoader()) ) {
+			assertEquals(Arrays.asList("p.sub.SubPojo"),
+					PackageScanner.builder().packageName("p").classLoader(loader).include("p.sub.*").build().scanNames());
+			assertEquals(Arrays.asList("p.Pojo", "p.Pojo2"),
+					PackageScanner.builder().packageName("p").classLoader(loader).exclude("*.Sub*").build().scanNames());
+			// '?' : a single character
+			assertEquals(Arrays.asList("p.Pojo2"),
+					PackageScanner.builder().packageName("p").classLoader(loader).include("p.Pojo?").build().scanNames());
+			assertEquals(Collections.emptyList(),
+					PackageScanner.builder().packageName("p.none").classLoader(loader).build().scanNames());
+		}
+	}
+
+	@Test
+	public void testLargeClassFile(@TempDir Path dir) throws Exception {
+		StringBuilder source = new StringBuilder("public class Large {");
+		for (int i = 0 ; i < 400 ; i++) {
+			source.append(String.format(" private int v%1$d; public int getV%1$d() { return v%1$d; } public void setV%1$d(int v) { v%1$d = v; }", i));
+		}
+		Path classes = compile(dir, "p.Large", source.append(" }").toString(), "p.Pojo", String.format(POJO, "Pojo"));
+		Path large = classes.resolve("p/Large.class");
+		Path small = classes.resolve("p/Pojo.class");
+		// memory-mapped (large) or read in a heap buffer (small)
+		assertTrue(Files.size(large) >= PackageScanner.MAPPING_THRESHOLD);
+		assertTrue(Files.size(small) < PackageScanner.MAPPING_THRESHOLD);
+		ClassFileInfo info = PackageScanner.readClassFile(large);
+		assertEquals("p.Large", info.getName());
+		assertEquals(400, info.getSetters().size());
+		assertEquals(info.getSetters(), info.getGetters());
+		assertEquals("p.Pojo", PackageScanner.readClassFile(small).getName());
+		// same content read from a jar (zip file system)
+		Path jar = jar(classes, dir.resolve("large.jar"), true);
+		try ( FileSystem zip = FileSystems.newFileSystem(jar, (ClassLoader) null) ) {
+			assertEquals(info.getSetters(), PackageScanner.readClassFile(zip.getPath("/p/Large.class")).getSetters());
+		}
+		try ( URLClassLoader loader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, getClass().getClassLoader()) ) {
+			assertEquals(Arrays.asList("p.Large", "p.Pojo"), PackageScanner.builder().packageName("p").classLoader(loader).build().scanNames());
+		}
+		// not a class file
+		Files.write(small, new byte[] { 1, 2, 3 });
+		assertNull(PackageScanner.readClassFile(small));
+	}
+}